@@ -0,0 +1,113 @@
+package com.github.jactor.rises.builder;
+
+import com.github.jactor.rises.builder.ValidationResult.FieldCondition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the checks in a {@link ValidationResult}. It is placed in the package of the validation result in order
+ * to reach the formatting done by {@link ValidationResult#throwIllegalStateExceptionWhenInvalid()}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationResultBenchmark {
+
+    @Param({"true", "false"})
+    private boolean valid;
+
+    @Param({"false", "true"})
+    private boolean lazily;
+
+    private double number;
+    private int integer;
+    private long amount;
+    private FieldCondition condition;
+    private FieldCondition negatedCondition;
+    private Object object;
+    private String string;
+    private ValidationResult invalidResult;
+
+    @Setup public void initFieldValues() {
+        boolean isTrue = valid;
+
+        number = valid ? 1.5 : Double.NaN;
+        integer = valid ? 5 : 11;
+        amount = valid ? 100L : 0L;
+        condition = () -> isTrue;
+        negatedCondition = () -> !isTrue;
+        object = valid ? new Object() : null;
+        string = valid ? "value" : " ";
+
+        invalidResult = ValidationResult.validate(ValidationResultBenchmark.class)
+                .notNull("aField", null, "cannot be null")
+                .notEmpty("anotherField", "", "cannot be empty")
+                .notTrue("yetAnotherField", () -> true, "cannot be true");
+    }
+
+    @Benchmark public Optional<ValidationResult> notNull() {
+        return validate().notNull("object", object, "cannot be null").returnResult();
+    }
+
+    @Benchmark public Optional<ValidationResult> notEmpty() {
+        return validate().notEmpty("string", string, "cannot be empty").returnResult();
+    }
+
+    @Benchmark public Optional<ValidationResult> notTrue() {
+        return validate().notTrue("condition", negatedCondition, "cannot be true").returnResult();
+    }
+
+    @Benchmark public Optional<ValidationResult> notFalse() {
+        return validate().notFalse("condition", condition, "cannot be false").returnResult();
+    }
+
+    @Benchmark public Optional<ValidationResult> positive() {
+        return validate().positive("amount", amount, "must be positive").returnResult();
+    }
+
+    @Benchmark public Optional<ValidationResult> inRange() {
+        return validate().inRange("integer", integer, 0, 10, "must be in range").returnResult();
+    }
+
+    @Benchmark public Optional<ValidationResult> notNaN() {
+        return validate().notNaN("number", number, "must be a number").returnResult();
+    }
+
+    @Benchmark public String throwIllegalStateExceptionWhenInvalid() {
+        try {
+            invalidResult.throwIllegalStateExceptionWhenInvalid();
+        } catch (IllegalStateException ise) {
+            return ise.getMessage();
+        }
+
+        throw new AssertionError("the validation result should be invalid");
+    }
+
+    @Benchmark public List<ValidationResult.InvalidField> invalidBeanExceptionWithoutStackTrace() {
+        try {
+            throw new InvalidBeanException(invalidResult, false);
+        } catch (InvalidBeanException ibe) {
+            return ibe.getInvalidFields();
+        }
+    }
+
+    private ValidationResult validate() {
+        return lazily ? ValidationResult.validateLazily(ValidationResultBenchmark.class) : ValidationResult.validate(ValidationResultBenchmark.class);
+    }
+}
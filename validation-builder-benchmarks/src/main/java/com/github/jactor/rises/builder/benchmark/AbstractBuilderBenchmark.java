@@ -0,0 +1,56 @@
+package com.github.jactor.rises.builder.benchmark;
+
+import com.github.jactor.rises.builder.sample.NamedEra;
+import com.github.jactor.rises.builder.sample.NamedEraBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AbstractBuilderBenchmark {
+
+    private NamedEraBuilder invalidBuilder;
+    private NamedEraBuilder validBuilder;
+
+    @Setup public void initBuilders() {
+        LocalDate beginning = LocalDate.of(1914, 7, 28);
+
+        invalidBuilder = NamedEra.aNamedEra().withBeginning(beginning).withEnd(beginning);
+        validBuilder = NamedEra.aNamedEra().withName("An era").withBeginning(beginning).withEnd(beginning.plusYears(4));
+    }
+
+    @Benchmark public NamedEra buildValidNamedEra() {
+        return validBuilder.build();
+    }
+
+    @Benchmark public Object buildInvalidNamedEra() {
+        try {
+            return invalidBuilder.build();
+        } catch (IllegalStateException ise) {
+            return ise;
+        }
+    }
+
+    @Benchmark public Object tryBuildValidNamedEra() {
+        return validBuilder.tryBuild(namedEra -> namedEra, validationResult -> validationResult);
+    }
+
+    @Benchmark public Object tryBuildInvalidNamedEra() {
+        return invalidBuilder.tryBuild(namedEra -> namedEra, validationResult -> validationResult);
+    }
+}
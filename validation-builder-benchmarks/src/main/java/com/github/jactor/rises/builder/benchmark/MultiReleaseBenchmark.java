@@ -0,0 +1,86 @@
+package com.github.jactor.rises.builder.benchmark;
+
+import com.github.jactor.rises.builder.BuilderPool;
+import com.github.jactor.rises.builder.sample.NamedEra;
+import com.github.jactor.rises.builder.sample.NamedEraBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares the implementations of the multi-release jar for JDK 21 with the Java 8 implementations, by running the same
+ * benchmark with the multi-release jar disabled ({@code -Djdk.util.jar.enableMultiRelease=false}): pooling builders on
+ * virtual threads. It must be run on JDK 21 or later with a jar built using {@code -DmultiRelease}, ex:
+ * {@code java -jar target/benchmarks.jar MultiReleaseBenchmark}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MultiReleaseBenchmark {
+    private static final String JAVA_8_IMPLEMENTATIONS = "-Djdk.util.jar.enableMultiRelease=false";
+    private static final int NO_OF_BUILDS_PER_TASK = 10;
+    private static final int NO_OF_TASKS = 100;
+
+    private final BuilderPool<NamedEra, NamedEraBuilder> namedEras = new BuilderPool<>(NamedEra::aNamedEra, 4);
+    private final LocalDate beginning = LocalDate.of(1914, 7, 28);
+
+    private ExecutorService virtualThreads;
+
+    @Setup public void initVirtualThreads() throws ReflectiveOperationException {
+        try {
+            virtualThreads = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException nsme) {
+            throw new IllegalStateException(MultiReleaseBenchmark.class.getSimpleName() + " must be run on JDK 21 or later", nsme);
+        }
+    }
+
+    @TearDown public void shutdownVirtualThreads() {
+        virtualThreads.shutdown();
+    }
+
+    @Benchmark public long buildWithPoolOnVirtualThreads() throws InterruptedException {
+        return buildWithPool();
+    }
+
+    @Fork(value = 1, jvmArgsAppend = JAVA_8_IMPLEMENTATIONS)
+    @Benchmark public long buildWithPoolOnVirtualThreadsUsingJava8() throws InterruptedException {
+        return buildWithPool();
+    }
+
+    private long buildWithPool() throws InterruptedException {
+        CountDownLatch tasksDone = new CountDownLatch(NO_OF_TASKS);
+        LongAdder lengthOfNames = new LongAdder();
+
+        for (int i = 0; i < NO_OF_TASKS; i++) {
+            virtualThreads.execute(() -> {
+                for (int j = 0; j < NO_OF_BUILDS_PER_TASK; j++) {
+                    lengthOfNames.add(namedEras.build(builder -> builder.withName("An era").withBeginning(beginning)).getName().length());
+                }
+
+                tasksDone.countDown();
+            });
+        }
+
+        tasksDone.await();
+
+        return lengthOfNames.sum();
+    }
+}
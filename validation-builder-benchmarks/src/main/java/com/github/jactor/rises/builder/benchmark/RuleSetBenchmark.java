@@ -0,0 +1,66 @@
+package com.github.jactor.rises.builder.benchmark;
+
+import com.github.jactor.rises.builder.RuleSet;
+import com.github.jactor.rises.builder.ValidInstance;
+import com.github.jactor.rises.builder.ValidationResult;
+import com.github.jactor.rises.builder.sample.NamedEra;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the rules of a {@link NamedEra} declared in a lambda (as done by {@code NamedEra.validate()}) with the same
+ * rules declared once in a {@link RuleSet}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RuleSetBenchmark {
+
+    private static final ValidInstance<NamedEra> LAMBDA = namedEra -> ValidationResult.validateLazily(NamedEra.class)
+            .notEmpty("name", namedEra.getName(), "must be named")
+            .notNull("beginning", namedEra.getBeginning(), "must have a beginning")
+            .notTrue("end", () -> namedEra.getEnd() != null && namedEra.getEnd().isEqual(namedEra.getBeginning()), "cannot be equal to the beginning")
+            .notTrue("end", () -> namedEra.getEnd() != null && namedEra.getEnd().isBefore(namedEra.getBeginning()), "cannot come before the beginning")
+            .returnResult();
+
+    private static final RuleSet<NamedEra> RULE_SET = RuleSet.declare(NamedEra.class)
+            .notEmpty("name", NamedEra::getName, "must be named")
+            .notNull("beginning", NamedEra::getBeginning, "must have a beginning")
+            .notTrue("end", namedEra -> namedEra.getEnd() != null && namedEra.getEnd().isEqual(namedEra.getBeginning()), "cannot be equal to the beginning")
+            .notTrue("end", namedEra -> namedEra.getEnd() != null && namedEra.getEnd().isBefore(namedEra.getBeginning()), "cannot come before the beginning")
+            .build();
+
+    @Param({"true", "false"})
+    private boolean valid;
+
+    private NamedEra namedEra;
+
+    @Setup public void initNamedEra() {
+        LocalDate beginning = LocalDate.of(1914, 7, 28);
+        namedEra = valid ? NamedEra.aNamedEra().withName("An era").withBeginning(beginning).withEnd(beginning.plusYears(4)).build() : new NamedEra();
+    }
+
+    @Benchmark public Optional<ValidationResult> validateUsingLambda() {
+        return LAMBDA.validate(namedEra);
+    }
+
+    @Benchmark public Optional<ValidationResult> validateUsingRuleSet() {
+        return RULE_SET.validate(namedEra);
+    }
+}
@@ -0,0 +1,220 @@
+package com.github.jactor.rises.builder.flow;
+
+import com.github.jactor.rises.builder.AbstractBuilder;
+import com.github.jactor.rises.builder.BuildResult;
+import com.github.jactor.rises.builder.ValidationResult;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Flow.Processor} which builds the beans of a stream of builders and publishes the valid beans. The
+ * {@link ValidationResult} of an invalid bean is given to a consumer instead of terminating the stream.
+ *
+ * <p>The builders are requested in batches and built on the thread signalling them, so at most one batch of built beans
+ * are waiting for demand from the subscriber. The processor supports one subscriber, and like every subscriber it
+ * throws a {@link NullPointerException} when it is signalled with null.
+ *
+ * @param <T> type of bean to build
+ */
+public final class BuildProcessor<T> implements Flow.Processor<AbstractBuilder<T>, T> {
+    private final AtomicInteger workInProgress = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicReference<Flow.Subscriber<? super T>> subscriber = new AtomicReference<>();
+    private final Consumer<? super ValidationResult> invalidResults;
+    private final Queue<BuildResult<T>> buildResults = new ConcurrentLinkedQueue<>();
+    private final int batchSize;
+
+    private volatile Flow.Subscription upstream;
+    private volatile Throwable error;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+
+    private int consumed;
+    private long emitted;
+
+    /**
+     * @param batchSize number of builders requested at a time
+     * @param invalidResults consumer of the {@link ValidationResult}s of the invalid beans
+     */
+    public BuildProcessor(int batchSize, Consumer<? super ValidationResult> invalidResults) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("the batch size must be positive, was " + batchSize);
+        }
+
+        this.batchSize = batchSize;
+        this.invalidResults = invalidResults;
+    }
+
+    @Override public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+
+        if (!this.subscriber.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new RejectedSubscription());
+            subscriber.onError(new IllegalStateException(BuildProcessor.class.getSimpleName() + " supports only one subscriber"));
+
+            return;
+        }
+
+        subscriber.onSubscribe(new BeanSubscription());
+        drain();
+    }
+
+    @Override public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription");
+
+        if (upstream != null) {
+            subscription.cancel();
+            return;
+        }
+
+        upstream = subscription;
+        subscription.request(batchSize);
+    }
+
+    @Override public void onNext(AbstractBuilder<T> builder) {
+        Objects.requireNonNull(builder, "builder");
+
+        if (done) {
+            return;
+        }
+
+        try {
+            buildResults.offer(builder.tryBuild());
+        } catch (RuntimeException re) {
+            upstream.cancel();
+            onError(re);
+
+            return;
+        }
+
+        drain();
+    }
+
+    @Override public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable, "throwable");
+
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    @Override public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    private void drain() {
+        if (workInProgress.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+
+        do {
+            Flow.Subscriber<? super T> downstream = subscriber.get();
+
+            if (downstream != null && emitFrom(downstream)) {
+                return;
+            }
+
+            missed = workInProgress.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private boolean emitFrom(Flow.Subscriber<? super T> downstream) {
+        while (true) {
+            if (cancelled) {
+                buildResults.clear();
+                return true;
+            }
+
+            boolean terminated = done;
+            BuildResult<T> buildResult = buildResults.peek();
+
+            if (buildResult == null) {
+                if (terminated) {
+                    cancelled = true;
+                    signalTermination(downstream);
+                }
+
+                return terminated;
+            }
+
+            if (buildResult.isValid()) {
+                if (emitted == requested.get()) {
+                    return false;
+                }
+
+                buildResults.poll();
+                emitted++;
+                downstream.onNext(buildResult.get());
+            } else {
+                buildResults.poll();
+                invalidResults.accept(buildResult.getValidationResult().orElseThrow());
+            }
+
+            if (++consumed == batchSize && !terminated) {
+                consumed = 0;
+                upstream.request(batchSize);
+            }
+        }
+    }
+
+    private void signalTermination(Flow.Subscriber<? super T> downstream) {
+        Throwable throwable = error;
+
+        if (throwable != null) {
+            downstream.onError(throwable);
+        } else {
+            downstream.onComplete();
+        }
+    }
+
+    private void cancelUpstream() {
+        Flow.Subscription subscription = upstream;
+
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private final class BeanSubscription implements Flow.Subscription {
+        @Override public void request(long n) {
+            if (n < 1) {
+                buildResults.clear();
+                error = new IllegalArgumentException("a subscriber must request a positive number of beans, was " + n);
+                done = true;
+                cancelUpstream();
+                drain();
+
+                return;
+            }
+
+            requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            drain();
+        }
+
+        @Override public void cancel() {
+            cancelled = true;
+            cancelUpstream();
+            drain();
+        }
+    }
+
+    private static final class RejectedSubscription implements Flow.Subscription {
+        @Override public void request(long n) {
+            // nothing to request for a rejected subscriber
+        }
+
+        @Override public void cancel() {
+            // nothing to cancel for a rejected subscriber
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.github.jactor.rises.builder.flow;
+
+import com.github.jactor.rises.builder.AbstractBuilder;
+import com.github.jactor.rises.builder.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.github.jactor.rises.builder.ValidationResult.validateLazily;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("BuildProcessor")
+class BuildProcessorTest {
+
+    private final List<ValidationResult> invalidResults = new CopyOnWriteArrayList<>();
+    private final RecordingSubscriber recordingSubscriber = new RecordingSubscriber();
+
+    @DisplayName("should publish the valid beans in order and give the invalid results to the consumer")
+    @Test void shouldPublishValidBeansInOrderAndGiveInvalidResultsToConsumer() throws Exception {
+        BuildProcessor<Integer> buildProcessor = new BuildProcessor<>(16, invalidResults::add);
+        buildProcessor.subscribe(recordingSubscriber);
+
+        try (SubmissionPublisher<AbstractBuilder<Integer>> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(buildProcessor);
+            IntStream.rangeClosed(-50, 50).mapToObj(NumberBuilder::new).forEach(publisher::submit);
+        }
+
+        recordingSubscriber.subscription.request(Long.MAX_VALUE);
+        recordingSubscriber.completed.get(5, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertThat(recordingSubscriber.beans).as("valid beans")
+                        .isEqualTo(IntStream.rangeClosed(1, 50).boxed().collect(Collectors.toList())),
+                () -> assertThat(invalidResults).as("invalid results").hasSize(51)
+        );
+    }
+
+    @DisplayName("should request builders in batches and only publish the beans requested by the subscriber")
+    @Test void shouldRequestBuildersInBatchesAndOnlyPublishRequestedBeans() {
+        RecordingSubscription upstream = new RecordingSubscription();
+        BuildProcessor<Integer> buildProcessor = new BuildProcessor<>(3, invalidResults::add);
+        buildProcessor.subscribe(recordingSubscriber);
+        buildProcessor.onSubscribe(upstream);
+
+        IntStream.of(1, -2, 3).mapToObj(NumberBuilder::new).forEach(buildProcessor::onNext);
+        recordingSubscriber.subscription.request(1);
+
+        assertAll(
+                () -> assertThat(recordingSubscriber.beans).as("beans before demand").containsExactly(1),
+                () -> assertThat(invalidResults).as("invalid results before demand").hasSize(1),
+                () -> assertThat(upstream.requested).as("requested before demand").containsExactly(3L)
+        );
+
+        recordingSubscriber.subscription.request(1);
+
+        assertAll(
+                () -> assertThat(recordingSubscriber.beans).as("beans after demand").containsExactly(1, 3),
+                () -> assertThat(upstream.requested).as("requested after demand").containsExactly(3L, 3L)
+        );
+    }
+
+    @DisplayName("should cancel the upstream when the subscriber cancels")
+    @Test void shouldCancelUpstreamWhenSubscriberCancels() {
+        RecordingSubscription upstream = new RecordingSubscription();
+        BuildProcessor<Integer> buildProcessor = new BuildProcessor<>(3, invalidResults::add);
+        buildProcessor.subscribe(recordingSubscriber);
+        buildProcessor.onSubscribe(upstream);
+
+        buildProcessor.onNext(new NumberBuilder(1));
+        recordingSubscriber.subscription.cancel();
+        recordingSubscriber.subscription.request(1);
+
+        assertAll(
+                () -> assertThat(upstream.cancelled).as("upstream cancelled").isTrue(),
+                () -> assertThat(recordingSubscriber.beans).as("beans").isEmpty()
+        );
+    }
+
+    @DisplayName("should throw a NullPointerException when it is signalled with null and keep publishing")
+    @Test void shouldThrowNullPointerExceptionWhenSignalledWithNull() {
+        RecordingSubscription upstream = new RecordingSubscription();
+        BuildProcessor<Integer> buildProcessor = new BuildProcessor<>(3, invalidResults::add);
+        buildProcessor.subscribe(recordingSubscriber);
+        buildProcessor.onSubscribe(upstream);
+
+        assertAll(
+                () -> assertThatNullPointerException().as("onNext").isThrownBy(() -> buildProcessor.onNext(null)),
+                () -> assertThatNullPointerException().as("onError").isThrownBy(() -> buildProcessor.onError(null)),
+                () -> assertThatNullPointerException().as("onSubscribe").isThrownBy(() -> buildProcessor.onSubscribe(null)),
+                () -> assertThatNullPointerException().as("subscribe").isThrownBy(() -> buildProcessor.subscribe(null))
+        );
+
+        buildProcessor.onNext(new NumberBuilder(1));
+        recordingSubscriber.subscription.request(1);
+
+        assertAll(
+                () -> assertThat(recordingSubscriber.beans).as("beans").containsExactly(1),
+                () -> assertThat(recordingSubscriber.completed).as("completed").isNotDone()
+        );
+    }
+
+    private static class NumberBuilder extends AbstractBuilder<Integer> {
+        private final int number;
+
+        private NumberBuilder(int number) {
+            super(aNumber -> validateLazily(Integer.class).positive("number", aNumber, "must be positive").returnResult());
+            this.number = number;
+        }
+
+        @Override protected Integer buildBean() {
+            return number;
+        }
+    }
+
+    private static class RecordingSubscription implements Flow.Subscription {
+        private final List<Long> requested = new CopyOnWriteArrayList<>();
+        private boolean cancelled;
+
+        @Override public void request(long n) {
+            requested.add(n);
+        }
+
+        @Override public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<Integer> {
+        private final CompletableFuture<Void> completed = new CompletableFuture<>();
+        private final List<Integer> beans = new CopyOnWriteArrayList<>();
+        private Flow.Subscription subscription;
+
+        @Override public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override public void onNext(Integer bean) {
+            beans.add(bean);
+        }
+
+        @Override public void onError(Throwable throwable) {
+            completed.completeExceptionally(throwable);
+        }
+
+        @Override public void onComplete() {
+            completed.complete(null);
+        }
+    }
+}
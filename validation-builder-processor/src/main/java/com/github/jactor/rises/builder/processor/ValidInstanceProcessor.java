@@ -0,0 +1,332 @@
+package com.github.jactor.rises.builder.processor;
+
+import com.github.jactor.rises.builder.annotation.NotEmpty;
+import com.github.jactor.rises.builder.annotation.NotFalse;
+import com.github.jactor.rises.builder.annotation.NotNull;
+import com.github.jactor.rises.builder.annotation.NotTrue;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@link com.github.jactor.rises.builder.ValidInstance} for every bean having fields or methods annotated
+ * with the constraints in {@code com.github.jactor.rises.builder.annotation}. The generated validation is one chain of
+ * checks in declaration order, without any lambdas, reflection or allocations when the bean is valid. The constraints
+ * inherited from the superclasses of the bean are checked first.
+ *
+ * <p>The compilation fails when the generated class cannot reach the bean or a member with a constraint, ex: a private
+ * bean, or a package private member inherited from a superclass in another package.
+ */
+public class ValidInstanceProcessor extends AbstractProcessor {
+    static final String GENERATED_SUFFIX = "ValidInstance";
+
+    private static final Map<String, Check> CHECKS = new HashMap<>();
+
+    static {
+        CHECKS.put(NotNull.class.getCanonicalName(), Check.NOT_NULL);
+        CHECKS.put(NotEmpty.class.getCanonicalName(), Check.NOT_EMPTY);
+        CHECKS.put(NotTrue.class.getCanonicalName(), Check.NOT_TRUE);
+        CHECKS.put(NotFalse.class.getCanonicalName(), Check.NOT_FALSE);
+    }
+
+    @Override public Set<String> getSupportedAnnotationTypes() {
+        return CHECKS.keySet();
+    }
+
+    @Override public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        Set<TypeElement> beans = new LinkedHashSet<>();
+
+        for (TypeElement annotation : annotations) {
+            for (Element annotated : roundEnvironment.getElementsAnnotatedWith(annotation)) {
+                beans.add((TypeElement) annotated.getEnclosingElement());
+            }
+        }
+
+        beans.forEach(this::generateValidInstance);
+
+        return true;
+    }
+
+    private void generateValidInstance(TypeElement bean) {
+        if (!bean.getTypeParameters().isEmpty()) {
+            error(bean, "cannot generate a validation of a generic bean");
+            return;
+        }
+
+        if (!isReachable(bean, packageOf(bean))) {
+            error(bean, "cannot generate a validation of a bean which is private, local or anonymous, or nested in such a class");
+            return;
+        }
+
+        List<String> checks = new ArrayList<>();
+        boolean allChecksResolved = true;
+
+        for (TypeElement declaringType : hierarchyOf(bean)) {
+            for (Element member : declaringType.getEnclosedElements()) {
+                for (AnnotationMirror annotationMirror : member.getAnnotationMirrors()) {
+                    Check check = CHECKS.get(((TypeElement) annotationMirror.getAnnotationType().asElement()).getQualifiedName().toString());
+
+                    if (check != null) {
+                        String checkSource = checkSourceOf(bean, member, annotationMirror, check);
+                        allChecksResolved &= checkSource != null;
+                        checks.add(checkSource);
+                    }
+                }
+            }
+        }
+
+        if (allChecksResolved) {
+            writeValidInstance(bean, checks);
+        }
+    }
+
+    private String checkSourceOf(TypeElement bean, Element member, AnnotationMirror annotationMirror, Check check) {
+        TypeMirror type = typeOf(bean, member);
+
+        if (!check.isApplicableTo(type)) {
+            error(member, "@%s cannot be used on a member of type %s", check.annotation, type);
+            return null;
+        }
+
+        String access = accessOf(bean, member);
+
+        if (access == null) {
+            return null;
+        }
+
+        String fieldName = stringValueOf(annotationMirror, "field");
+
+        return String.format("%s(%s, %s, %s)", check.method,
+                processingEnv.getElementUtils().getConstantExpression(fieldName.isEmpty() ? fieldNameOf(member) : fieldName),
+                access,
+                processingEnv.getElementUtils().getConstantExpression(stringValueOf(annotationMirror, "value"))
+        );
+    }
+
+    private String accessOf(TypeElement bean, Element member) {
+        if (member.getModifiers().contains(Modifier.STATIC)) {
+            error(member, "a constraint cannot be used on a static member");
+            return null;
+        }
+
+        if (member.getKind() == ElementKind.METHOD) {
+            ExecutableElement method = (ExecutableElement) member;
+
+            if (method.getModifiers().contains(Modifier.PRIVATE) || !method.getParameters().isEmpty()) {
+                error(member, "a method with a constraint must be a non private method without parameters");
+                return null;
+            }
+        }
+
+        if (!member.getModifiers().contains(Modifier.PRIVATE)) {
+            if (!isReachable(member, packageOf(bean))) {
+                error(member, "the generated %s cannot reach %s inherited by %s", generatedNameOf(bean), member.getSimpleName(), bean.getQualifiedName());
+                return null;
+            }
+
+            return "bean." + member.getSimpleName() + (member.getKind() == ElementKind.METHOD ? "()" : "");
+        }
+
+        String capitalized = capitalize(member.getSimpleName().toString());
+
+        for (Element getter : member.getEnclosingElement().getEnclosedElements()) {
+            if (getter.getKind() == ElementKind.METHOD
+                    && !getter.getModifiers().contains(Modifier.PRIVATE)
+                    && !getter.getModifiers().contains(Modifier.STATIC)
+                    && ((ExecutableElement) getter).getParameters().isEmpty()
+                    && isReachable(getter, packageOf(bean))
+                    && processingEnv.getTypeUtils().isSameType(typeOf(bean, getter), typeOf(bean, member))
+                    && (getter.getSimpleName().contentEquals("get" + capitalized) || getter.getSimpleName().contentEquals("is" + capitalized))) {
+                return "bean." + getter.getSimpleName() + "()";
+            }
+        }
+
+        error(member, "a private field with a constraint must have a non private getter");
+
+        return null;
+    }
+
+    private void writeValidInstance(TypeElement bean, List<String> checks) {
+        String packageName = packageOf(bean);
+        String simpleName = generatedNameOf(bean);
+        String beanName = bean.getQualifiedName().toString();
+
+        try (Writer writer = processingEnv.getFiler()
+                .createSourceFile(packageName.isEmpty() ? simpleName : packageName + '.' + simpleName, bean)
+                .openWriter()) {
+
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+
+            writer.write("/**\n * Generated by " + ValidInstanceProcessor.class.getSimpleName() + " from the constraints of {@link " + beanName + "}\n */\n");
+            writer.write("public final class " + simpleName + " implements com.github.jactor.rises.builder.ValidInstance<" + beanName + "> {\n");
+            writer.write("    @Override public java.util.Optional<com.github.jactor.rises.builder.ValidationResult> validate(" + beanName + " bean) {\n");
+            writer.write("        return com.github.jactor.rises.builder.ValidationResult.validateLazily(" + beanName + ".class)\n");
+
+            for (String check : checks) {
+                writer.write("                ." + check + "\n");
+            }
+
+            writer.write("                .returnResult();\n");
+            writer.write("    }\n");
+            writer.write("}\n");
+        } catch (IOException ioe) {
+            error(bean, "unable to generate %s: %s", simpleName, ioe.getMessage());
+        }
+    }
+
+    private String packageOf(Element element) {
+        return processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+    }
+
+    /**
+     * @return the bean and its superclasses, the topmost superclass first
+     */
+    private static List<TypeElement> hierarchyOf(TypeElement bean) {
+        LinkedList<TypeElement> hierarchy = new LinkedList<>();
+
+        for (TypeMirror type = bean.asType(); type.getKind() == TypeKind.DECLARED; ) {
+            TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+            hierarchy.addFirst(typeElement);
+            type = typeElement.getSuperclass();
+        }
+
+        return hierarchy;
+    }
+
+    /**
+     * @return true when the element and the classes enclosing it can be reached by a class in the given package
+     */
+    private boolean isReachable(Element element, String packageName) {
+        for (Element reached = element; !(reached instanceof PackageElement); reached = reached.getEnclosingElement()) {
+            if (reached instanceof TypeElement) {
+                NestingKind nestingKind = ((TypeElement) reached).getNestingKind();
+
+                if (nestingKind == NestingKind.LOCAL || nestingKind == NestingKind.ANONYMOUS) {
+                    return false;
+                }
+            }
+
+            if (reached.getModifiers().contains(Modifier.PRIVATE)
+                    || !reached.getModifiers().contains(Modifier.PUBLIC) && !packageOf(reached).equals(packageName)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return the type of a field, or the return type of a method, as a member of the bean
+     */
+    private TypeMirror typeOf(TypeElement bean, Element member) {
+        TypeMirror type = processingEnv.getTypeUtils().asMemberOf((DeclaredType) bean.asType(), member);
+
+        return member.getKind() == ElementKind.METHOD ? ((ExecutableType) type).getReturnType() : type;
+    }
+
+    private String stringValueOf(AnnotationMirror annotationMirror, String attribute) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(annotationMirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+                return (String) entry.getValue().getValue();
+            }
+        }
+
+        throw new IllegalStateException("no attribute named " + attribute + " in " + annotationMirror);
+    }
+
+    private void error(Element element, String message, Object... arguments) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(message, arguments), element);
+    }
+
+    static String generatedNameOf(TypeElement bean) {
+        StringBuilder generatedName = new StringBuilder(bean.getSimpleName());
+
+        for (Element enclosing = bean.getEnclosingElement(); enclosing instanceof TypeElement; enclosing = enclosing.getEnclosingElement()) {
+            generatedName.insert(0, enclosing.getSimpleName() + "_");
+        }
+
+        return generatedName.append(GENERATED_SUFFIX).toString();
+    }
+
+    private static String fieldNameOf(Element member) {
+        String name = member.getSimpleName().toString();
+
+        if (member.getKind() == ElementKind.METHOD) {
+            for (String prefix : new String[]{"get", "is"}) {
+                if (name.length() > prefix.length() && name.startsWith(prefix) && Character.isUpperCase(name.charAt(prefix.length()))) {
+                    return Character.toLowerCase(name.charAt(prefix.length())) + name.substring(prefix.length() + 1);
+                }
+            }
+        }
+
+        return name;
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private enum Check {
+        NOT_NULL(NotNull.class, "notNull") {
+            @Override boolean isApplicableTo(TypeMirror type) {
+                return !type.getKind().isPrimitive() && type.getKind() != TypeKind.VOID;
+            }
+        },
+        NOT_EMPTY(NotEmpty.class, "notEmpty") {
+            @Override boolean isApplicableTo(TypeMirror type) {
+                return String.class.getCanonicalName().equals(type.toString());
+            }
+        },
+        NOT_TRUE(NotTrue.class, "notTrue") {
+            @Override boolean isApplicableTo(TypeMirror type) {
+                return type.getKind() == TypeKind.BOOLEAN;
+            }
+        },
+        NOT_FALSE(NotFalse.class, "notFalse") {
+            @Override boolean isApplicableTo(TypeMirror type) {
+                return type.getKind() == TypeKind.BOOLEAN;
+            }
+        };
+
+        private final String annotation;
+        private final String method;
+
+        Check(Class<?> annotation, String method) {
+            this.annotation = annotation.getSimpleName();
+            this.method = method;
+        }
+
+        abstract boolean isApplicableTo(TypeMirror type);
+    }
+}
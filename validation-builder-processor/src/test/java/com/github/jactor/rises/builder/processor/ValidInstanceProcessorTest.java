@@ -0,0 +1,245 @@
+package com.github.jactor.rises.builder.processor;
+
+import com.github.jactor.rises.builder.AbstractBuilder;
+import com.github.jactor.rises.builder.ValidInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("ValidInstanceProcessor")
+class ValidInstanceProcessorTest {
+
+    private static final String ERA_SOURCE = "package sample;\n" +
+            "import com.github.jactor.rises.builder.annotation.*;\n" +
+            "import java.time.LocalDate;\n" +
+            "public class Era {\n" +
+            "    @NotEmpty(\"must be named\") private final String name;\n" +
+            "    @NotNull(\"must have a beginning\") final LocalDate beginning;\n" +
+            "    private final LocalDate end;\n" +
+            "    public Era(String name, LocalDate beginning, LocalDate end) {\n" +
+            "        this.name = name;\n" +
+            "        this.beginning = beginning;\n" +
+            "        this.end = end;\n" +
+            "    }\n" +
+            "    public String getName() { return name; }\n" +
+            "    @NotTrue(field = \"end\", value = \"cannot come before the beginning\")\n" +
+            "    boolean isEndBeforeBeginning() { return end != null && end.isBefore(beginning); }\n" +
+            "}\n";
+
+    private Path compilation;
+    private Path sourceDirectory;
+    private Path outputDirectory;
+    private DiagnosticCollector<JavaFileObject> diagnostics;
+
+    @BeforeEach void createDirectories() throws IOException {
+        compilation = Files.createTempDirectory("processor");
+        sourceDirectory = Files.createDirectories(compilation.resolve("src/sample"));
+        outputDirectory = Files.createDirectories(compilation.resolve("out"));
+        diagnostics = new DiagnosticCollector<>();
+    }
+
+    @AfterEach void deleteDirectories() throws IOException {
+        try (Stream<Path> paths = Files.walk(compilation)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @DisplayName("should generate a valid instance without lambdas which accepts a valid bean")
+    @Test void shouldGenerateValidInstanceAcceptingValidBean() throws Exception {
+        assertThat(compile("Era", ERA_SOURCE)).as("compiled").isTrue();
+
+        String generatedSource = new String(Files.readAllBytes(outputDirectory.resolve("sample/EraValidInstance.java")), StandardCharsets.UTF_8);
+
+        assertAll(
+                () -> assertThat(generatedSource).as("generated source").doesNotContain("->").contains("validateLazily"),
+                () -> assertThat(buildEra("An era", LocalDate.now().minusYears(1), LocalDate.now())).as("era").isNotNull()
+        );
+    }
+
+    @DisplayName("should generate a valid instance validating the annotated members in declaration order")
+    @Test void shouldGenerateValidInstanceValidatingMembersInDeclarationOrder() throws Exception {
+        assertThat(compile("Era", ERA_SOURCE)).as("compiled").isTrue();
+
+        assertAll(
+                () -> assertThatIllegalStateException().isThrownBy(() -> buildEra(" ", null, null))
+                        .withMessage("Era has invalid fields:\n- 'name' must be named,\n- 'beginning' must have a beginning"),
+                () -> assertThatIllegalStateException().isThrownBy(() -> buildEra("An era", LocalDate.now(), LocalDate.now().minusDays(1)))
+                        .withMessage("Era has invalid fields:\n- 'end' cannot come before the beginning")
+        );
+    }
+
+    @DisplayName("should fail the compilation when a private field with a constraint has no getter")
+    @Test void shouldFailCompilationWhenPrivateFieldHasNoGetter() throws IOException {
+        boolean compiled = compile("Nameless", "package sample;\n" +
+                "public class Nameless {\n" +
+                "    @com.github.jactor.rises.builder.annotation.NotNull(\"must be named\") private String name;\n" +
+                "}\n"
+        );
+
+        assertAll(
+                () -> assertThat(compiled).as("compiled").isFalse(),
+                () -> assertThat(diagnostics.getDiagnostics()).extracting(diagnostic -> diagnostic.getMessage(null))
+                        .contains("a private field with a constraint must have a non private getter")
+        );
+    }
+
+    @DisplayName("should fail the compilation when a constraint is used on a member of the wrong type")
+    @Test void shouldFailCompilationWhenConstraintIsUsedOnMemberOfWrongType() throws IOException {
+        boolean compiled = compile("Counted", "package sample;\n" +
+                "public class Counted {\n" +
+                "    @com.github.jactor.rises.builder.annotation.NotEmpty(\"must be counted\") int count;\n" +
+                "}\n"
+        );
+
+        assertAll(
+                () -> assertThat(compiled).as("compiled").isFalse(),
+                () -> assertThat(diagnostics.getDiagnostics()).extracting(diagnostic -> diagnostic.getMessage(null))
+                        .contains("@NotEmpty cannot be used on a member of type int")
+        );
+    }
+
+    @DisplayName("should check the constraints inherited from the superclasses first")
+    @Test void shouldCheckConstraintsInheritedFromSuperclassesFirst() throws IOException {
+        assertThat(compile("Era", "package sample;\n" +
+                "import com.github.jactor.rises.builder.annotation.*;\n" +
+                "class Named {\n" +
+                "    @NotEmpty(\"must be named\") private String name;\n" +
+                "    String getName() { return name; }\n" +
+                "}\n" +
+                "public class Era extends Named {\n" +
+                "    @NotNull(\"must have a beginning\") java.time.LocalDate beginning;\n" +
+                "}\n"
+        )).as("compiled").isTrue();
+
+        String generatedSource = new String(Files.readAllBytes(outputDirectory.resolve("sample/EraValidInstance.java")), StandardCharsets.UTF_8);
+
+        assertThat(generatedSource).as("generated source").containsSubsequence("notEmpty(\"name\", bean.getName()", "notNull(\"beginning\", bean.beginning");
+    }
+
+    @DisplayName("should fail the compilation when an inherited member with a constraint cannot be reached")
+    @Test void shouldFailCompilationWhenInheritedMemberCannotBeReached() throws IOException {
+        Path otherDirectory = Files.createDirectories(compilation.resolve("src/other"));
+        Files.write(otherDirectory.resolve("Named.java"), ("package other;\n" +
+                "public class Named {\n" +
+                "    @com.github.jactor.rises.builder.annotation.NotEmpty(\"must be named\") String name;\n" +
+                "}\n").getBytes(StandardCharsets.UTF_8)
+        );
+
+        boolean compiled = compile("Era", "package sample;\n" +
+                "public class Era extends other.Named {\n" +
+                "    @com.github.jactor.rises.builder.annotation.NotNull(\"must have a beginning\") java.time.LocalDate beginning;\n" +
+                "}\n"
+        );
+
+        assertAll(
+                () -> assertThat(compiled).as("compiled").isFalse(),
+                () -> assertThat(diagnostics.getDiagnostics()).extracting(diagnostic -> diagnostic.getMessage(null))
+                        .contains("the generated EraValidInstance cannot reach name inherited by sample.Era")
+        );
+    }
+
+    @DisplayName("should fail the compilation when the bean is nested in a private class")
+    @Test void shouldFailCompilationWhenBeanIsNestedInPrivateClass() throws IOException {
+        boolean compiled = compile("Calendar", "package sample;\n" +
+                "public class Calendar {\n" +
+                "    private static class Hidden {\n" +
+                "        static class Era {\n" +
+                "            @com.github.jactor.rises.builder.annotation.NotNull(\"must have a beginning\") java.time.LocalDate beginning;\n" +
+                "        }\n" +
+                "    }\n" +
+                "}\n"
+        );
+
+        assertAll(
+                () -> assertThat(compiled).as("compiled").isFalse(),
+                () -> assertThat(diagnostics.getDiagnostics()).extracting(diagnostic -> diagnostic.getMessage(null))
+                        .contains("cannot generate a validation of a bean which is private, local or anonymous, or nested in such a class")
+        );
+    }
+
+    @DisplayName("should check the constraints inherited from a superclass which is already compiled")
+    @Test void shouldCheckConstraintsInheritedFromCompiledSuperclass() throws IOException {
+        Path libraryDirectory = Files.createDirectories(compilation.resolve("lib/other"));
+        Path librarySource = Files.write(libraryDirectory.resolve("Named.java"), ("package other;\n" +
+                "public class Named {\n" +
+                "    @com.github.jactor.rises.builder.annotation.NotEmpty(\"must be named\") public String name;\n" +
+                "}\n").getBytes(StandardCharsets.UTF_8)
+        );
+
+        assertThat(compile(librarySource)).as("superclass compiled").isTrue();
+        assertThat(compile("Era", "package sample;\n" +
+                "public class Era extends other.Named {\n" +
+                "    @com.github.jactor.rises.builder.annotation.NotNull(\"must have a beginning\") java.time.LocalDate beginning;\n" +
+                "}\n"
+        )).as("compiled").isTrue();
+
+        String generatedSource = new String(Files.readAllBytes(outputDirectory.resolve("sample/EraValidInstance.java")), StandardCharsets.UTF_8);
+
+        assertThat(generatedSource).as("generated source").containsSubsequence("notEmpty(\"name\", bean.name", "notNull(\"beginning\", bean.beginning");
+    }
+
+    private boolean compile(String className, String source) throws IOException {
+        return compile(Files.write(sourceDirectory.resolve(className + ".java"), source.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Compiles a source file with the classes compiled before on the class path
+     */
+    private boolean compile(Path sourceFile) throws IOException {
+        JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+
+        try (StandardJavaFileManager fileManager = javaCompiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask compilationTask = javaCompiler.getTask(null, fileManager, diagnostics,
+                    Arrays.asList("-d", outputDirectory.toString(), "-s", outputDirectory.toString(), "-classpath",
+                            System.getProperty("java.class.path") + File.pathSeparator + outputDirectory,
+                            "-sourcepath", compilation.resolve("src").toString(), "-implicit:class"),
+                    null, fileManager.getJavaFileObjects(sourceFile.toFile())
+            );
+
+            compilationTask.setProcessors(Collections.singletonList(new ValidInstanceProcessor()));
+
+            return compilationTask.call();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object buildEra(String name, LocalDate beginning, LocalDate end) throws Exception {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{outputDirectory.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> eraClass = classLoader.loadClass("sample.Era");
+            Object era = eraClass.getConstructor(String.class, LocalDate.class, LocalDate.class).newInstance(name, beginning, end);
+            ValidInstance<Object> validInstance = (ValidInstance<Object>) classLoader.loadClass("sample.EraValidInstance").getConstructor().newInstance();
+
+            return new AbstractBuilder<Object>(validInstance) {
+                @Override protected Object buildBean() {
+                    return era;
+                }
+            }.build();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.jactor.rises.builder.sample;
 
+import com.github.jactor.rises.builder.RuleSet;
 import com.github.jactor.rises.builder.ValidInstance;
 import com.github.jactor.rises.builder.ValidationResult;
 
@@ -7,6 +8,13 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 
 public class NamedEra {
+    private static final RuleSet<NamedEra> RULE_SET = RuleSet.register(NamedEra.class, rules -> rules
+            .notEmpty("name", NamedEra::getName, "must be named").dependsOn("name")
+            .notNull("beginning", NamedEra::getBeginning, "must have a beginning").dependsOn("beginning")
+            .notTrue("end", NamedEra::isEndEqualToBeginning, "cannot be equal to the beginning").dependsOn("beginning", "end")
+            .notTrue("end", NamedEra::isEndBeforeBeginning, "cannot come before the beginning").dependsOn("beginning", "end")
+    );
+
     private LocalDate beginning;
     private LocalDate end;
     private String name;
@@ -49,12 +57,28 @@ public class NamedEra {
         return new NamedEraBuilder(validate());
     }
 
+    /**
+     * @return a builder which is meant to be built repeatedly, and only evaluates the rules depending on the fields
+     * changed since its last build
+     */
+    public static NamedEraBuilder aNamedEraBuiltRepeatedly() {
+        return new NamedEraBuilder(RULE_SET);
+    }
+
     static ValidInstance<NamedEra> validate() {
-        return namedEra -> ValidationResult.validate(NamedEra.class)
+        return namedEra -> ValidationResult.validateLazily(NamedEra.class)
                 .notEmpty("name", namedEra.getName(), "must be named")
                 .notNull("beginning", namedEra.getBeginning(), "must have a beginning")
-                .notTrue("end", () -> namedEra.getEnd() != null && namedEra.getEnd().isEqual(namedEra.getBeginning()), "cannot be equal to the beginning")
-                .notTrue("end", () -> namedEra.getEnd() != null && namedEra.getEnd().isBefore(namedEra.getBeginning()), "cannot come before the beginning")
+                .notTrue("end", isEndEqualToBeginning(namedEra), "cannot be equal to the beginning")
+                .notTrue("end", isEndBeforeBeginning(namedEra), "cannot come before the beginning")
                 .returnResult();
     }
+
+    private static boolean isEndEqualToBeginning(NamedEra namedEra) {
+        return namedEra.getEnd() != null && namedEra.getBeginning() != null && namedEra.getEnd().isEqual(namedEra.getBeginning());
+    }
+
+    private static boolean isEndBeforeBeginning(NamedEra namedEra) {
+        return namedEra.getEnd() != null && namedEra.getBeginning() != null && namedEra.getEnd().isBefore(namedEra.getBeginning());
+    }
 }
@@ -24,18 +24,28 @@ public class NamedEraBuilder extends AbstractBuilder<NamedEra> {
         return namedEra;
     }
 
+    @Override
+    protected void clear() {
+        beginning = null;
+        end = null;
+        name = null;
+    }
+
     public NamedEraBuilder withName(String name) {
         this.name = name;
+        fieldChanged("name");
         return this;
     }
 
     public NamedEraBuilder withBeginning(LocalDate beginning) {
         this.beginning = beginning;
+        fieldChanged("beginning");
         return this;
     }
 
     public NamedEraBuilder withEnd(LocalDate end) {
         this.end = end;
+        fieldChanged("end");
         return this;
     }
 }
@@ -7,6 +7,7 @@ import java.time.LocalDate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 @DisplayName("NamedEraBuilder")
 class NamedEraBuilderTest {
@@ -62,4 +63,31 @@ class NamedEraBuilderTest {
                         .build()
         ).isNotNull();
     }
-}
\ No newline at end of file
+
+    @DisplayName("should not build NamedEra with the fields applied before the builder is reset")
+    @Test void shouldNotInitNamedEraWithFieldsAppliedBeforeReset() {
+        NamedEraBuilder namedEraBuilder = new NamedEraBuilder(NamedEra.validate()).withName("An era").withBeginning(LocalDate.now());
+        namedEraBuilder.build();
+        namedEraBuilder.reset();
+
+        assertThatIllegalStateException().isThrownBy(namedEraBuilder::build)
+                .withMessageContaining("must be named");
+    }
+
+    @DisplayName("should validate the changed fields when a NamedEra is built repeatedly")
+    @Test void shouldValidateChangedFieldsWhenBuiltRepeatedly() {
+        LocalDate beginning = LocalDate.now().minusYears(100);
+        NamedEraBuilder namedEraBuilder = NamedEra.aNamedEraBuiltRepeatedly().withName("An era").withBeginning(beginning);
+
+        assertAll(
+                () -> assertThat(namedEraBuilder.build()).as("valid era").isNotNull(),
+                () -> assertThatIllegalStateException().as("changed end").isThrownBy(namedEraBuilder.withEnd(beginning.minusDays(1))::build)
+                        .withMessageContaining("'end' cannot come before the beginning"),
+                () -> assertThat(namedEraBuilder.withEnd(beginning.plusYears(1)).build()).as("changed end again").isNotNull(),
+                () -> assertThatIllegalStateException().as("changed beginning").isThrownBy(namedEraBuilder.withBeginning(beginning.plusYears(1))::build)
+                        .withMessageContaining("'end' cannot be equal to the beginning"),
+                () -> assertThatIllegalStateException().as("changed name").isThrownBy(namedEraBuilder.withBeginning(beginning).withName(" ")::build)
+                        .withMessage("NamedEra has invalid fields:\n- 'name' must be named")
+        );
+    }
+}
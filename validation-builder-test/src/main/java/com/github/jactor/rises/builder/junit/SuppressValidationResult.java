@@ -1,36 +1,84 @@
 package com.github.jactor.rises.builder.junit;
 
 import com.github.jactor.rises.builder.ValidationResult;
+import org.junit.jupiter.api.extension.ExtensionContext;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 class SuppressValidationResult extends ValidationResult {
-    private static final Map<Class<?>, Integer> SUPPRESS_FOR_CLASS = new HashMap<>();
+    private static final ThreadLocal<Suppression> SUPPRESSION_OF_TEST = new ThreadLocal<>();
+
+    private final Suppression suppression;
+
+    private SuppressValidationResult(Suppression suppression) {
+        this.suppression = suppression;
+    }
 
     @Override protected void throwIllegalStateExceptionWhenInvalid() {
-        if (SUPPRESS_FOR_CLASS.isEmpty()) {
-            return;
+        if (!suppression.isSuppressed(getClassToValidate())) {
+            super.throwIllegalStateExceptionWhenInvalid();
         }
+    }
 
-        if (SUPPRESS_FOR_CLASS.containsKey(getClassToValidate())) {
-            Integer noOfSuppressedValidations = SUPPRESS_FOR_CLASS.get(getClassToValidate());
+    /**
+     * @return the suppression of the test running on the current thread
+     */
+    static Suppression start() {
+        Suppression suppression = new Suppression();
 
-            if (0 < noOfSuppressedValidations) {
-                SUPPRESS_FOR_CLASS.put(getClassToValidate(), --noOfSuppressedValidations);
-                return;
-            }
-        }
+        SUPPRESSION_OF_TEST.set(suppression);
+        suppression.previousNewInstance = ValidationResult.setNewInstanceForCurrentThread(suppression.newInstance);
 
-        super.throwIllegalStateExceptionWhenInvalid();
+        return suppression;
     }
 
-    static void refresh() {
-        ValidationResult.setNewInstance(SuppressValidationResult::new);
-        SUPPRESS_FOR_CLASS.clear();
+    static void suppressValidationFor(Class<?> aClass, int numberOfTimes) {
+        Suppression suppression = SUPPRESSION_OF_TEST.get();
+
+        if (suppression == null) {
+            throw new IllegalStateException(
+                    "Validations can only be suppressed by a test using the " + ValidationResultExtension.class.getSimpleName()
+            );
+        }
+
+        suppression.suppressForClass.put(aClass, new AtomicInteger(numberOfTimes));
     }
 
-    static void suppressValidationFor(Class<?> aClass, int numberOfTimes) {
-        SUPPRESS_FOR_CLASS.put(aClass, numberOfTimes);
+    /**
+     * The validations suppressed by one test, kept in the {@link ExtensionContext.Store} of the test. When closed on the
+     * thread running the test, the new instance hook which was used by that thread before the test is restored, and on
+     * any other thread the suppression is just ended.
+     */
+    static final class Suppression implements ExtensionContext.Store.CloseableResource {
+        private final Map<Class<?>, AtomicInteger> suppressForClass = new ConcurrentHashMap<>();
+        private final NewInstance newInstance = () -> new SuppressValidationResult(this);
+        private final Thread testThread = Thread.currentThread();
+        private NewInstance previousNewInstance;
+        private volatile boolean closed;
+
+        private boolean isSuppressed(Class<?> aClass) {
+            if (closed) {
+                return false;
+            }
+
+            if (suppressForClass.isEmpty()) {
+                return true;
+            }
+
+            AtomicInteger noOfSuppressedValidations = suppressForClass.get(aClass);
+
+            return noOfSuppressedValidations != null && 0 < noOfSuppressedValidations.getAndUpdate(no -> 0 < no ? no - 1 : no);
+        }
+
+        @Override public void close() {
+            closed = true;
+
+            if (Thread.currentThread() == testThread && SUPPRESSION_OF_TEST.get() == this) {
+                SUPPRESSION_OF_TEST.remove();
+                ValidationResult.restoreNewInstanceForCurrentThread(newInstance, previousNewInstance);
+            }
+        }
     }
 }
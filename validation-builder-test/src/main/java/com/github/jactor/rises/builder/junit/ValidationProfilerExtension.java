@@ -0,0 +1,58 @@
+package com.github.jactor.rises.builder.junit;
+
+import com.github.jactor.rises.builder.metrics.ValidationProfiler;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * Profiles the validations done by the tests of a class with a {@link ValidationProfiler}, and publishes its ranked
+ * report as a report entry when the tests are done. A test can get the profiler as a parameter. Like the
+ * {@link ValidationResultExtension}, only the thread running a test is profiled. When a test uses both extensions, the
+ * validations are created by the extension registered last, and the other extension is used again when it is done.
+ */
+public final class ValidationProfilerExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback, AfterAllCallback, ParameterResolver {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(ValidationProfilerExtension.class);
+
+    private ValidationProfilerExtension() {
+    }
+
+    @Override public void beforeAll(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(ValidationProfiler.class, new ValidationProfiler());
+    }
+
+    @Override public void beforeEach(ExtensionContext context) {
+        profilerOf(context).startForCurrentThread();
+    }
+
+    @Override public void afterEach(ExtensionContext context) {
+        profilerOf(context).stopForCurrentThread();
+    }
+
+    @Override public void afterAll(ExtensionContext context) {
+        ValidationProfiler validationProfiler = context.getStore(NAMESPACE).remove(ValidationProfiler.class, ValidationProfiler.class);
+
+        if (validationProfiler != null && !validationProfiler.getCheckProfiles().isEmpty()) {
+            context.publishReportEntry("validationProfile", validationProfiler.getReport());
+        }
+    }
+
+    @Override public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == ValidationProfiler.class;
+    }
+
+    @Override public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return profilerOf(extensionContext);
+    }
+
+    /**
+     * @return the profiler of the test class, which is shared by its tests
+     */
+    private static ValidationProfiler profilerOf(ExtensionContext context) {
+        return context.getStore(NAMESPACE).get(ValidationProfiler.class, ValidationProfiler.class);
+    }
+}
@@ -1,20 +1,31 @@
 package com.github.jactor.rises.builder.junit;
 
+import com.github.jactor.rises.builder.junit.SuppressValidationResult.Suppression;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
+/**
+ * Suppresses the validations of the builds done by a test. The suppression is kept in the store of the test and is only
+ * used by the thread running the test, so tests using the extension can run concurrently, ex: with
+ * {@code @Execution(ExecutionMode.CONCURRENT)}.
+ */
 public final class ValidationResultExtension implements BeforeEachCallback, AfterEachCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(ValidationResultExtension.class);
 
     private ValidationResultExtension() {
     }
 
     @Override public void afterEach(ExtensionContext context) {
-        SuppressValidationResult.reset();
+        Suppression suppression = context.getStore(NAMESPACE).remove(Suppression.class, Suppression.class);
+
+        if (suppression != null) {
+            suppression.close();
+        }
     }
 
     @Override public void beforeEach(ExtensionContext context) {
-        SuppressValidationResult.refresh();
+        context.getStore(NAMESPACE).put(Suppression.class, SuppressValidationResult.start());
     }
 
     public static void suppressValidationFor(Class<?> aClass) {
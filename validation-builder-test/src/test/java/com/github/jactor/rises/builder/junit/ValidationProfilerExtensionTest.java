@@ -0,0 +1,33 @@
+package com.github.jactor.rises.builder.junit;
+
+import com.github.jactor.rises.builder.ValidationResult;
+import com.github.jactor.rises.builder.metrics.CheckProfile;
+import com.github.jactor.rises.builder.metrics.ValidationProfiler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ExtendWith(ValidationProfilerExtension.class)
+@DisplayName("The ValidationProfilerExtension")
+class ValidationProfilerExtensionTest {
+
+    @DisplayName("should profile the checks done by the thread running the test")
+    @Test void shouldProfileChecksDoneByThreadRunningTest(ValidationProfiler validationProfiler) throws Exception {
+        ValidationResult.validateLazily(ProfiledBean.class).notNull("name", "a name", "must be named").returnResult();
+        CompletableFuture.runAsync(() -> ValidationResult.validateLazily(ProfiledBean.class).notEmpty("other", "a name", "must be named")).get();
+
+        assertAll(
+                () -> assertThat(validationProfiler.getCheckProfiles()).as("checks").extracting(CheckProfile::toString)
+                        .contains("ProfiledBean.name notNull").doesNotContain("ProfiledBean.other notEmpty"),
+                () -> assertThat(validationProfiler.getReport()).as("report").contains("ProfiledBean.name notNull")
+        );
+    }
+
+    private static class ProfiledBean {
+    }
+}
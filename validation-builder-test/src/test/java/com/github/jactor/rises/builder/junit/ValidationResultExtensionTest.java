@@ -4,11 +4,18 @@ import com.github.jactor.rises.builder.AbstractBuilder;
 import com.github.jactor.rises.builder.ValidationResult;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -56,6 +63,36 @@ class ValidationResultExtensionTest {
         }
     }
 
+    @Execution(ExecutionMode.CONCURRENT)
+    @ExtendWith(ValidationResultExtension.class)
+    @DisplayName("used by tests running concurrently")
+    @Nested
+    class ConcurrentUse {
+
+        @DisplayName("should only suppress the validations of the running test")
+        @RepeatedTest(200) void shouldOnlySuppressValidationsOfRunningTest(RepetitionInfo repetitionInfo) {
+            int numberOfTimes = repetitionInfo.getCurrentRepetition() % 5 + 1;
+            ValidationResultExtension.suppressValidationFor(InvalidBean.class, numberOfTimes);
+
+            for (int i = 0; i < numberOfTimes; i++) {
+                assertThat(new InvalidBeanBuilder().build()).as("invalid bean %d of %d", i + 1, numberOfTimes).isNotNull();
+                Thread.yield();
+            }
+
+            assertAll(
+                    () -> assertThatIllegalStateException().as("invalid bean when no longer suppressed").isThrownBy(new InvalidBeanBuilder()::build),
+                    () -> assertThatIllegalStateException().as("another invalid bean").isThrownBy(new AnotherInvalidBeanBuilder()::build)
+            );
+        }
+
+        @DisplayName("should not suppress the validations on other threads than the one running the test")
+        @RepeatedTest(50) void shouldNotSuppressValidationsOnOtherThreads() {
+            CompletableFuture<InvalidBean> futureBean = CompletableFuture.supplyAsync(new InvalidBeanBuilder()::build);
+
+            assertThatThrownBy(futureBean::join).hasCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
     private class InvalidBean {
     }
 
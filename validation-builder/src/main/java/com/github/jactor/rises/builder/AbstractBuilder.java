@@ -1,5 +1,16 @@
 package com.github.jactor.rises.builder;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
 /**
  * A builder which does not return a bean instance before its state is validated using a {@link FunctionalInterface}
  * called {@link ValidInstance}
@@ -7,7 +18,14 @@ package com.github.jactor.rises.builder;
  * @param <T> type of bean to build
  */
 public abstract class AbstractBuilder<T> {
+    private static final ClassValue<Class<?>> BEAN_CLASSES = new ClassValue<Class<?>>() {
+        @Override protected Class<?> computeValue(Class<?> type) {
+            return beanClassOf(type);
+        }
+    };
+
     private final ValidInstance<T> validInstance;
+    private RuleSet.Incremental<T> incrementalValidation;
 
     protected AbstractBuilder(ValidInstance<T> validInstance) {
         this.validInstance = validInstance;
@@ -15,12 +33,204 @@ public abstract class AbstractBuilder<T> {
 
     protected abstract T buildBean();
 
+    /**
+     * Clears the state of the builder, so it can be reused for building another bean, ex: by a {@link BuilderPool}
+     */
+    public void reset() {
+        clear();
+
+        if (incrementalValidation != null) {
+            incrementalValidation.markAllDirty();
+        }
+    }
+
+    /**
+     * Clears the fields of the builder when it is {@link #reset()}, does nothing unless overridden
+     */
+    protected void clear() {
+    }
+
+    /**
+     * Tells that a field is changed since the last build. When the bean is validated by a {@link RuleSet}, the builder
+     * then only evaluates the rules depending on the changed fields, and reuses the outcome of the other rules. Every
+     * change must therefore be told after the first call.
+     *
+     * @param fieldName the name of the changed field
+     */
+    @SuppressWarnings("unchecked")
+    protected void fieldChanged(String fieldName) {
+        if (incrementalValidation == null) {
+            if (!(validInstance instanceof RuleSet)) {
+                return;
+            }
+
+            incrementalValidation = ((RuleSet<T>) validInstance).incremental();
+        }
+
+        incrementalValidation.markDirty(fieldName);
+    }
+
+    private ValidInstance<T> validInstance() {
+        return incrementalValidation != null ? incrementalValidation : validInstance;
+    }
+
     public T build() {
+        ValidationInstrumentation validationInstrumentation = Instrumentation.installed;
+        long started = validationInstrumentation != null ? System.nanoTime() : 0;
         T bean = buildBean();
 
-        validInstance.validate(bean)
+        validate(bean, validationInstrumentation, started)
                 .ifPresent(ValidationResult::throwIllegalStateExceptionWhenInvalid);
 
         return bean;
     }
+
+    /**
+     * Validates the built bean, and tells the instrumentation (when installed) that the bean is validated and built. The
+     * validations and builds are counted for the bean class given as type argument of the builder, which is the class the
+     * bean is validated as.
+     */
+    private Optional<ValidationResult> validate(T bean, ValidationInstrumentation validationInstrumentation, long started) {
+        if (validationInstrumentation == null) {
+            return validInstance().validate(bean);
+        }
+
+        Class<?> beanClass = BEAN_CLASSES.get(getClass());
+        long validating = System.nanoTime();
+        Optional<ValidationResult> validationResult = validInstance().validate(bean);
+        long validated = System.nanoTime();
+
+        validationInstrumentation.validated(beanClass, validated - validating);
+        validationInstrumentation.built(beanClass, validated - started, !validationResult.isPresent());
+
+        return validationResult;
+    }
+
+    /**
+     * Builds the bean without throwing an exception when it is not valid
+     *
+     * @return a {@link BuildResult} with the bean when it is valid, or with its {@link ValidationResult} when it is not
+     */
+    public BuildResult<T> tryBuild() {
+        return tryBuild(BuildResult::valid, BuildResult::invalid);
+    }
+
+    /**
+     * Builds the bean without throwing an exception when it is not valid, and without any allocations other than the
+     * bean and the ones done by the given functions
+     *
+     * @param whenValid function applied to the bean when it is valid
+     * @param whenInvalid function applied to the {@link ValidationResult} when the bean is not valid
+     * @param <R> type of the outcome
+     * @return the outcome of the applied function
+     */
+    public <R> R tryBuild(Function<? super T, ? extends R> whenValid, Function<? super ValidationResult, ? extends R> whenInvalid) {
+        ValidationInstrumentation validationInstrumentation = Instrumentation.installed;
+        long started = validationInstrumentation != null ? System.nanoTime() : 0;
+        T bean = buildBean();
+        Optional<ValidationResult> validationResult = validate(bean, validationInstrumentation, started);
+
+        return validationResult.isPresent() ? whenInvalid.apply(validationResult.get()) : whenValid.apply(bean);
+    }
+
+    /**
+     * Builds the bean on the calling thread without throwing an exception
+     *
+     * @return a completed {@link CompletionStage} with the bean, or completed exceptionally with an
+     * {@link InvalidBeanException} when the bean is not valid
+     */
+    public CompletionStage<T> buildAsync() {
+        CompletableFuture<T> futureBean = new CompletableFuture<>();
+        complete(futureBean);
+
+        return futureBean;
+    }
+
+    /**
+     * Builds the bean using the executor
+     *
+     * @param executor running the build
+     * @return a {@link CompletionStage} with the bean, or completed exceptionally with an {@link InvalidBeanException}
+     * when the bean is not valid
+     */
+    public CompletionStage<T> buildAsync(Executor executor) {
+        CompletableFuture<T> futureBean = new CompletableFuture<>();
+        executor.execute(() -> complete(futureBean));
+
+        return futureBean;
+    }
+
+    private void complete(CompletableFuture<T> futureBean) {
+        try {
+            tryBuild(futureBean::complete, invalid -> futureBean.completeExceptionally(new InvalidBeanException(invalid)));
+        } catch (RuntimeException re) {
+            futureBean.completeExceptionally(re);
+        }
+    }
+
+    /**
+     * Builds every bean in a batch without throwing an exception for the invalid beans
+     *
+     * @param builders of the beans in the batch
+     * @param <T> type of bean to build
+     * @return a {@link BatchResult} with the valid beans and the {@link ValidationResult}s of the invalid beans
+     */
+    public static <T> BatchResult<T> buildAll(Collection<? extends AbstractBuilder<T>> builders) {
+        return new BuilderBatch<T>().validate(builders);
+    }
+
+    /**
+     * Builds every bean in a batch without throwing an exception for the invalid beans. The builders are collected in
+     * encounter order before the beans are built, and the stream is closed when they are built.
+     *
+     * @param builders of the beans in the batch
+     * @param <T> type of bean to build
+     * @return a {@link BatchResult} with the valid beans and the {@link ValidationResult}s of the invalid beans
+     */
+    public static <T> BatchResult<T> buildAll(Stream<? extends AbstractBuilder<T>> builders) {
+        return new BuilderBatch<T>().validate(builders);
+    }
+
+    /**
+     * Builds every bean in a batch in parallel without throwing an exception for the invalid beans
+     *
+     * @param builders of the beans in the batch
+     * @param forkJoinPool the pool running the builds
+     * @param <T> type of bean to build
+     * @return a {@link BatchResult} with the valid beans and the {@link ValidationResult}s of the invalid beans
+     */
+    public static <T> BatchResult<T> buildAll(Collection<? extends AbstractBuilder<T>> builders, ForkJoinPool forkJoinPool) {
+        return new BuilderBatch<T>().validate(builders, forkJoinPool);
+    }
+
+    private static class BuilderBatch<T> extends BatchValidation<AbstractBuilder<T>, T> {
+        @Override ValidationResult validate(AbstractBuilder<T> builder, Object[] beans, int index) {
+            return builder.tryBuild(bean -> {
+                beans[index] = bean;
+                return null;
+            }, Function.identity());
+        }
+    }
+
+    /**
+     * @return the class given as type argument of {@link AbstractBuilder} by the builder class, or the builder class
+     * when the type argument is not a class
+     */
+    private static Class<?> beanClassOf(Class<?> builderClass) {
+        for (Class<?> type = builderClass; type.getSuperclass() != null; type = type.getSuperclass()) {
+            if (type.getSuperclass() == AbstractBuilder.class && type.getGenericSuperclass() instanceof ParameterizedType) {
+                Type beanType = ((ParameterizedType) type.getGenericSuperclass()).getActualTypeArguments()[0];
+
+                if (beanType instanceof Class) {
+                    return (Class<?>) beanType;
+                }
+
+                if (beanType instanceof ParameterizedType) {
+                    return (Class<?>) ((ParameterizedType) beanType).getRawType();
+                }
+            }
+        }
+
+        return builderClass;
+    }
 }
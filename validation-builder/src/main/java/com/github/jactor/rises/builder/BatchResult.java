@@ -0,0 +1,49 @@
+package com.github.jactor.rises.builder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The result of building or validating a batch of beans: the valid instances in the order of the batch, and the
+ * validation results of the invalid instances by their index in the batch
+ *
+ * @param <T> type of bean in the batch
+ */
+public final class BatchResult<T> {
+    private final int[] invalidIndexes;
+    private final List<T> validInstances;
+    private final ValidationResult[] validationResults;
+
+    BatchResult(List<T> validInstances, int[] invalidIndexes, ValidationResult[] validationResults) {
+        this.invalidIndexes = invalidIndexes;
+        this.validInstances = Collections.unmodifiableList(validInstances);
+        this.validationResults = validationResults;
+    }
+
+    public List<T> getValidInstances() {
+        return validInstances;
+    }
+
+    /**
+     * @return the indexes of the invalid instances in the batch, in ascending order
+     */
+    public int[] getInvalidIndexes() {
+        return invalidIndexes.clone();
+    }
+
+    /**
+     * @param index of a bean in the batch
+     * @return an {@link Optional} with a {@link ValidationResult} if the bean is not valid, {@link Optional#empty()} if valid
+     */
+    public Optional<ValidationResult> getValidationResult(int index) {
+        int position = Arrays.binarySearch(invalidIndexes, index);
+
+        return position < 0 ? Optional.empty() : Optional.of(validationResults[position]);
+    }
+
+    public boolean hasInvalidInstances() {
+        return invalidIndexes.length > 0;
+    }
+}
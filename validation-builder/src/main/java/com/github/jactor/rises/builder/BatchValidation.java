@@ -0,0 +1,132 @@
+package com.github.jactor.rises.builder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+/**
+ * Validates every item in a batch, writing the beans and the results into one buffer for the whole batch. When a
+ * {@link ForkJoinPool} is given, the batch is split into ranges which are validated in parallel.
+ *
+ * @param <S> type of item in the batch (a builder or a bean)
+ * @param <T> type of bean
+ */
+abstract class BatchValidation<S, T> {
+
+    static <T> BatchValidation<T, T> of(ValidInstance<T> validInstance) {
+        return new BatchValidation<T, T>() {
+            @Override ValidationResult validate(T bean, Object[] beans, int index) {
+                beans[index] = bean;
+
+                return Instrumentation.validate(validInstance, bean).orElse(null);
+            }
+        };
+    }
+
+    /**
+     * @param item to validate
+     * @param beans where the bean of the item is put when it is valid
+     * @param index of the item in the batch
+     * @return the validation result of the item, null when it is valid
+     */
+    abstract ValidationResult validate(S item, Object[] beans, int index);
+
+    BatchResult<T> validate(Collection<? extends S> batch) {
+        return validate(batch.toArray());
+    }
+
+    /**
+     * @param batch to validate, collected in encounter order before it is validated
+     * @return the {@link BatchResult} of the batch
+     */
+    BatchResult<T> validate(Stream<? extends S> batch) {
+        try (Stream<? extends S> items = batch) {
+            return validate(items.toArray());
+        }
+    }
+
+    private BatchResult<T> validate(Object[] items) {
+        Buffer buffer = new Buffer(items);
+        buffer.validate(0, buffer.items.length);
+
+        return buffer.toBatchResult();
+    }
+
+    BatchResult<T> validate(Collection<? extends S> batch, ForkJoinPool forkJoinPool) {
+        Buffer buffer = new Buffer(batch.toArray());
+        int threshold = Math.max(1, buffer.items.length / (forkJoinPool.getParallelism() * 4));
+        forkJoinPool.invoke(new ValidateRange(buffer, 0, buffer.items.length, threshold));
+
+        return buffer.toBatchResult();
+    }
+
+    private class Buffer {
+        private final Object[] items;
+        private final Object[] beans;
+        private final ValidationResult[] validationResults;
+
+        private Buffer(Object[] items) {
+            this.items = items;
+            beans = new Object[items.length];
+            validationResults = new ValidationResult[items.length];
+        }
+
+        @SuppressWarnings("unchecked") private void validate(int from, int to) {
+            for (int i = from; i < to; i++) {
+                validationResults[i] = BatchValidation.this.validate((S) items[i], beans, i);
+            }
+        }
+
+        @SuppressWarnings("unchecked") private BatchResult<T> toBatchResult() {
+            int noOfInvalid = 0;
+
+            for (ValidationResult validationResult : validationResults) {
+                if (validationResult != null) {
+                    noOfInvalid++;
+                }
+            }
+
+            List<T> validInstances = new ArrayList<>(items.length - noOfInvalid);
+            int[] invalidIndexes = new int[noOfInvalid];
+            ValidationResult[] invalidResults = new ValidationResult[noOfInvalid];
+            int invalid = 0;
+
+            for (int i = 0; i < items.length; i++) {
+                if (validationResults[i] == null) {
+                    validInstances.add((T) beans[i]);
+                } else {
+                    invalidIndexes[invalid] = i;
+                    invalidResults[invalid++] = validationResults[i];
+                }
+            }
+
+            return new BatchResult<>(validInstances, invalidIndexes, invalidResults);
+        }
+    }
+
+    private class ValidateRange extends RecursiveAction {
+        private final Buffer buffer;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private ValidateRange(Buffer buffer, int from, int to, int threshold) {
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override protected void compute() {
+            if (to - from <= threshold) {
+                buffer.validate(from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ValidateRange(buffer, from, middle, threshold), new ValidateRange(buffer, middle, to, threshold));
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.jactor.rises.builder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The binary format of {@link ValidationResultEncoder} and {@link ValidationResultDecoder}. A frame is the length of its
+ * records followed by the records:
+ *
+ * <pre>
+ * frame        = length:int record*
+ * record       = DEFINE_CLASS classId:int className:string
+ *              | DEFINE_FIELD fieldId:int classId:int fieldName:string fieldMessage:string
+ *              | RESULT classId:int noOfFields:int field*
+ * field        = fieldId:int | NOT_DEFINED:int fieldName:string fieldMessage:string
+ * string       = NULL:int | length:int utf8:byte*
+ * </pre>
+ *
+ * <p>The ids are given in sequence from zero by the encoder, so the decoder must read every frame in the order they were
+ * encoded. Only interned invalid fields are defined, the other invalid fields are written in full.
+ */
+final class BinaryFormat {
+    static final byte DEFINE_CLASS = 1;
+    static final byte DEFINE_FIELD = 2;
+    static final byte RESULT = 3;
+    static final int NOT_DEFINED = -1;
+    static final int NULL = -1;
+
+    private BinaryFormat() {
+    }
+
+    static byte[] bytesOf(String string) {
+        return string != null ? string.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * @throws IllegalArgumentException when the buffer ends inside the int, ex: a corrupt frame
+     */
+    static int getInt(ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES) {
+            throw new IllegalArgumentException("the frame ends inside a record, the frame is corrupt");
+        }
+
+        return buffer.getInt();
+    }
+
+    /**
+     * @throws IllegalArgumentException when the buffer ends inside the string, ex: a corrupt frame
+     */
+    static String getString(ByteBuffer buffer) {
+        int length = getInt(buffer);
+
+        if (length == NULL) {
+            return null;
+        }
+
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException(
+                    "the string length " + length + " is not between 0 and the " + buffer.remaining() + " bytes left of the frame, the frame is corrupt"
+            );
+        }
+
+        if (!buffer.hasArray()) {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        String string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        skip(buffer, length);
+
+        return string;
+    }
+
+    /**
+     * Moves the position using {@link java.nio.Buffer}, so the code compiled by a newer jdk still runs on java 8
+     */
+    static void skip(java.nio.Buffer buffer, int length) {
+        buffer.position(buffer.position() + length);
+    }
+}
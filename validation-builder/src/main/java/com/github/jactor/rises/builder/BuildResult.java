@@ -0,0 +1,50 @@
+package com.github.jactor.rises.builder;
+
+import java.util.Optional;
+
+/**
+ * The result of {@link AbstractBuilder#tryBuild()}: either a valid bean or the {@link ValidationResult} of an invalid
+ * bean
+ *
+ * @param <T> type of bean
+ */
+public final class BuildResult<T> {
+    private final T bean;
+    private final ValidationResult validationResult;
+
+    private BuildResult(T bean, ValidationResult validationResult) {
+        this.bean = bean;
+        this.validationResult = validationResult;
+    }
+
+    public boolean isValid() {
+        return validationResult == null;
+    }
+
+    /**
+     * @return the valid bean
+     * @throws InvalidBeanException when the bean is not valid
+     */
+    public T get() {
+        if (validationResult != null) {
+            throw new InvalidBeanException(validationResult);
+        }
+
+        return bean;
+    }
+
+    /**
+     * @return an {@link Optional} with a {@link ValidationResult} if the bean is not valid, {@link Optional#empty()} if valid
+     */
+    public Optional<ValidationResult> getValidationResult() {
+        return Optional.ofNullable(validationResult);
+    }
+
+    static <T> BuildResult<T> valid(T bean) {
+        return new BuildResult<>(bean, null);
+    }
+
+    static <T> BuildResult<T> invalid(ValidationResult validationResult) {
+        return new BuildResult<>(null, validationResult);
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.jactor.rises.builder;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A pool of builders for every thread, so a thread building beans in a loop can reuse the same builders instead of
+ * creating a new builder for every bean. The builders are {@link AbstractBuilder#reset()} when returned to the pool,
+ * and a bean is still validated before it is returned. On JDK 21 or later, a virtual thread does not pool any builders,
+ * since virtual threads are cheap, short-lived and numerous, and a pool for every one of them is never reused.
+ *
+ * @param <T> type of bean
+ * @param <B> type of builder
+ */
+public final class BuilderPool<T, B extends AbstractBuilder<T>> {
+    private final int maxIdlePerThread;
+    private final Supplier<? extends B> newBuilder;
+    private final ThreadLocal<ArrayDeque<B>> idleBuilders = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * @param newBuilder creating a builder when the pool of the thread is empty
+     * @param maxIdlePerThread the maximum number of idle builders kept by every thread
+     */
+    public BuilderPool(Supplier<? extends B> newBuilder, int maxIdlePerThread) {
+        this.newBuilder = newBuilder;
+        this.maxIdlePerThread = maxIdlePerThread;
+    }
+
+    /**
+     * @return an idle builder of the current thread, or a new builder when there are none
+     */
+    public B acquire() {
+        if (Threads.isVirtual()) {
+            return newBuilder.get();
+        }
+
+        B builder = idleBuilders.get().pollFirst();
+
+        return builder != null ? builder : newBuilder.get();
+    }
+
+    /**
+     * Resets the builder and returns it to the pool of the current thread
+     *
+     * @param builder which is no longer used by the current thread
+     */
+    public void release(B builder) {
+        builder.reset();
+
+        if (Threads.isVirtual()) {
+            return;
+        }
+
+        ArrayDeque<B> idle = idleBuilders.get();
+
+        if (idle.size() < maxIdlePerThread) {
+            idle.offerFirst(builder);
+        }
+    }
+
+    /**
+     * Builds a bean with a builder from the pool of the current thread
+     *
+     * @param configuration of the builder
+     * @return the valid bean
+     * @throws InvalidBeanException when the bean is not valid
+     */
+    public T build(Consumer<? super B> configuration) {
+        B builder = acquire();
+
+        try {
+            configuration.accept(builder);
+
+            return builder.build();
+        } finally {
+            release(builder);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.github.jactor.rises.builder;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A {@link ValidInstance} remembering the beans which are valid, ex: immutable value objects built again and again from
+ * the same input, so an equal bean (or a bean with the same key) is not validated again. Only valid beans are cached.
+ *
+ * <p>The cache is bounded. Reading it does not lock, and when it grows beyond its maximum size, one thread evicts the
+ * least recently used tenth of the beans. Beans can also expire a given time after they are validated.
+ *
+ * @param <T> type of bean
+ */
+public final class CachingValidInstance<T> implements ValidInstance<T> {
+    private static final long ACCESS_RESOLUTION_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final Function<? super T, ?> keyOf;
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Map<Object, ValidKey> validKeys = new ConcurrentHashMap<>();
+    private final ValidInstance<T> validInstance;
+    private final int maxSize;
+    private final long expireAfterNanos;
+
+    private CachingValidInstance(ValidInstance<T> validInstance, Function<? super T, ?> keyOf, int maxSize, long expireAfterNanos) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("the maximum size of the cache must be positive, was " + maxSize);
+        }
+
+        this.validInstance = validInstance;
+        this.keyOf = keyOf;
+        this.maxSize = maxSize;
+        this.expireAfterNanos = expireAfterNanos;
+    }
+
+    /**
+     * @param validInstance validating the beans which are not cached
+     * @param maxSize the maximum number of cached beans
+     * @param <T> type of bean, which must implement {@link Object#equals(Object)} and {@link Object#hashCode()}
+     * @return a valid instance caching the valid beans
+     */
+    public static <T> CachingValidInstance<T> byEquality(ValidInstance<T> validInstance, int maxSize) {
+        return new CachingValidInstance<>(validInstance, Function.identity(), maxSize, 0);
+    }
+
+    /**
+     * @param validInstance validating the beans which are not cached
+     * @param keyOf the key of a bean, which is equal for beans with an equal validation
+     * @param maxSize the maximum number of cached keys
+     * @param <T> type of bean
+     * @return a valid instance caching the keys of the valid beans
+     */
+    public static <T> CachingValidInstance<T> byKey(ValidInstance<T> validInstance, Function<? super T, ?> keyOf, int maxSize) {
+        return new CachingValidInstance<>(validInstance, keyOf, maxSize, 0);
+    }
+
+    /**
+     * @param expireAfter the time after which a validated bean is validated again
+     * @param timeUnit the unit of the time
+     * @return a new caching valid instance, without any cached beans, where the cached beans expire
+     */
+    public CachingValidInstance<T> expireAfter(long expireAfter, TimeUnit timeUnit) {
+        return new CachingValidInstance<>(validInstance, keyOf, maxSize, timeUnit.toNanos(expireAfter));
+    }
+
+    @Override public Optional<ValidationResult> validate(T bean) {
+        Object key = keyOf.apply(bean);
+
+        if (key == null) {
+            return validInstance.validate(bean);
+        }
+
+        long now = System.nanoTime();
+        ValidKey validKey = validKeys.get(key);
+
+        if (validKey != null) {
+            if (expireAfterNanos == 0 || now - validKey.validated < expireAfterNanos) {
+                validKey.accessed(now);
+                hits.increment();
+
+                return Optional.empty();
+            }
+
+            validKeys.remove(key, validKey);
+        }
+
+        misses.increment();
+        Optional<ValidationResult> validationResult = validInstance.validate(bean);
+
+        if (!validationResult.isPresent()) {
+            validKeys.put(key, new ValidKey(now));
+
+            if (validKeys.size() > maxSize) {
+                evictLeastRecentlyUsed();
+            }
+        }
+
+        return validationResult;
+    }
+
+    private void evictLeastRecentlyUsed() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long[] accessed = accessedSnapshot();
+            int noOfEvicted = accessed.length - maxSize + maxSize / 10;
+
+            if (noOfEvicted > 0) {
+                evictAccessedBefore(leastRecentlyAccessed(accessed, noOfEvicted), noOfEvicted);
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * The time of the accesses changes while evicting, so it is copied before it is sorted
+     */
+    private long[] accessedSnapshot() {
+        long[] accessed = new long[validKeys.size()];
+        int noOfAccessed = 0;
+
+        for (ValidKey validKey : validKeys.values()) {
+            if (noOfAccessed == accessed.length) {
+                accessed = Arrays.copyOf(accessed, accessed.length * 2 + 1);
+            }
+
+            accessed[noOfAccessed++] = validKey.accessed;
+        }
+
+        return noOfAccessed == accessed.length ? accessed : Arrays.copyOf(accessed, noOfAccessed);
+    }
+
+    /**
+     * @return the time of the last access of the least recently used beans, relative to the oldest access as the time
+     * of {@link System#nanoTime()} can overflow
+     */
+    private static long leastRecentlyAccessed(long[] accessed, int noOfEvicted) {
+        long oldest = accessed[0];
+
+        for (long time : accessed) {
+            oldest = time - oldest < 0 ? time : oldest;
+        }
+
+        for (int i = 0; i < accessed.length; i++) {
+            accessed[i] -= oldest;
+        }
+
+        Arrays.sort(accessed);
+
+        return oldest + accessed[Math.min(noOfEvicted, accessed.length) - 1];
+    }
+
+    private void evictAccessedBefore(long leastRecentlyAccessed, int noOfEvicted) {
+        Iterator<Map.Entry<Object, ValidKey>> entries = validKeys.entrySet().iterator();
+
+        for (int evicted = 0; evicted < noOfEvicted && entries.hasNext(); ) {
+            Map.Entry<Object, ValidKey> entry = entries.next();
+
+            if (entry.getValue().accessed - leastRecentlyAccessed <= 0 && validKeys.remove(entry.getKey(), entry.getValue())) {
+                evictions.increment();
+                evicted++;
+            }
+        }
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of cached beans
+     */
+    public int size() {
+        return validKeys.size();
+    }
+
+    private static final class ValidKey {
+        private final long validated;
+        private volatile long accessed;
+
+        private ValidKey(long validated) {
+            this.validated = validated;
+            this.accessed = validated;
+        }
+
+        /**
+         * Only writes the time of the access when it has changed noticeably, so reading a popular bean does not write
+         * to shared memory every time
+         */
+        private void accessed(long now) {
+            if (now - accessed > ACCESS_RESOLUTION_NANOS) {
+                accessed = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.github.jactor.rises.builder;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * The checks of string values used by {@link ValidationResult} and {@link RuleSet}. The formats are checked by scanning
+ * the characters, without any intermediate allocations.
+ */
+final class Formats {
+    private static final int MAX_CACHED_PATTERNS = 512;
+    private static final ConcurrentMap<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+    private static final String SPECIAL_LOCAL_CHARACTERS = "!#$%&'*+-/=?^_`{|}~";
+
+    private Formats() {
+    }
+
+    /**
+     * @return true when the value is null or only contains characters removed by {@link String#trim()}
+     */
+    static boolean isBlank(CharSequence fieldValue) {
+        if (fieldValue == null) {
+            return true;
+        }
+
+        for (int i = 0; i < fieldValue.length(); i++) {
+            if (fieldValue.charAt(i) > ' ') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    static boolean matches(CharSequence fieldValue, Pattern pattern) {
+        return fieldValue != null && pattern.matcher(fieldValue).matches();
+    }
+
+    /**
+     * @return the compiled regular expression, which is cached unless too many regular expressions are cached already
+     */
+    static Pattern patternOf(String regex) {
+        Pattern pattern = PATTERNS.get(regex);
+
+        if (pattern != null) {
+            return pattern;
+        }
+
+        pattern = Pattern.compile(regex);
+
+        if (PATTERNS.size() < MAX_CACHED_PATTERNS) {
+            Pattern cached = PATTERNS.putIfAbsent(regex, pattern);
+            return cached != null ? cached : pattern;
+        }
+
+        return pattern;
+    }
+
+    static boolean isLongerThan(CharSequence fieldValue, int maxLength) {
+        return fieldValue != null && fieldValue.length() > maxLength;
+    }
+
+    /**
+     * A pragmatic check of an email address: a local part of letters, digits, special characters and single dots, an
+     * at sign, and a domain of at least two labels with letters, digits and inner hyphens
+     */
+    static boolean isEmailAddress(CharSequence fieldValue) {
+        if (fieldValue == null) {
+            return false;
+        }
+
+        int at = -1;
+
+        for (int i = 0; i < fieldValue.length(); i++) {
+            if (fieldValue.charAt(i) == '@') {
+                if (at >= 0) {
+                    return false;
+                }
+
+                at = i;
+            }
+        }
+
+        return at > 0 && isLocalPart(fieldValue, at) && isDomain(fieldValue, at + 1);
+    }
+
+    private static boolean isLocalPart(CharSequence fieldValue, int end) {
+        char previous = '.';
+
+        for (int i = 0; i < end; i++) {
+            char character = fieldValue.charAt(i);
+
+            if (character == '.' ? previous == '.' : !isLetterOrDigit(character) && SPECIAL_LOCAL_CHARACTERS.indexOf(character) < 0) {
+                return false;
+            }
+
+            previous = character;
+        }
+
+        return previous != '.';
+    }
+
+    private static boolean isDomain(CharSequence fieldValue, int start) {
+        int labelStart = start;
+        int noOfLabels = 0;
+
+        for (int i = start; i <= fieldValue.length(); i++) {
+            if (i == fieldValue.length() || fieldValue.charAt(i) == '.') {
+                if (!isLabel(fieldValue, labelStart, i)) {
+                    return false;
+                }
+
+                noOfLabels++;
+                labelStart = i + 1;
+            }
+        }
+
+        return noOfLabels > 1;
+    }
+
+    private static boolean isLabel(CharSequence fieldValue, int start, int end) {
+        if (start == end || fieldValue.charAt(start) == '-' || fieldValue.charAt(end - 1) == '-') {
+            return false;
+        }
+
+        for (int i = start; i < end; i++) {
+            char character = fieldValue.charAt(i);
+
+            if (!isLetterOrDigit(character) && character != '-') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return true when the value is a valid date in the ISO-8601 format yyyy-MM-dd
+     */
+    static boolean isIsoLocalDate(CharSequence fieldValue) {
+        if (fieldValue == null || fieldValue.length() != 10 || fieldValue.charAt(4) != '-' || fieldValue.charAt(7) != '-') {
+            return false;
+        }
+
+        int year = digits(fieldValue, 0, 4);
+        int month = digits(fieldValue, 5, 7);
+        int day = digits(fieldValue, 8, 10);
+
+        return year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= lengthOf(month, year);
+    }
+
+    private static int digits(CharSequence fieldValue, int start, int end) {
+        int number = 0;
+
+        for (int i = start; i < end; i++) {
+            char character = fieldValue.charAt(i);
+
+            if (character < '0' || character > '9') {
+                return -1;
+            }
+
+            number = number * 10 + character - '0';
+        }
+
+        return number;
+    }
+
+    private static int lengthOf(int month, int year) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0 ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean isLetterOrDigit(char character) {
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z') || (character >= '0' && character <= '9');
+    }
+}
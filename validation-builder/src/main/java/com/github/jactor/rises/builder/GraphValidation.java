@@ -0,0 +1,62 @@
+package com.github.jactor.rises.builder;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * One pass of validating a graph of beans on the current thread. Every bean is validated once per pass by each
+ * {@link ValidInstance} reaching it, and a bean reached again while it is being validated (a cycle) is regarded as
+ * valid, whatever validates it, because it is reported where it is first reached.
+ */
+final class GraphValidation {
+    private static final ThreadLocal<GraphValidation> IN_PROGRESS = new ThreadLocal<>();
+
+    private final Map<Object, Map<ValidInstance<?>, Optional<ValidationResult>>> validatedBeans = new IdentityHashMap<>();
+    private final Set<Object> beansInProgress = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private GraphValidation() {
+    }
+
+    private <T> Optional<ValidationResult> validateOnce(T bean, ValidInstance<? super T> validInstance) {
+        Map<ValidInstance<?>, Optional<ValidationResult>> validationResults = validatedBeans.computeIfAbsent(bean, validatedBean -> new IdentityHashMap<>(2));
+        Optional<ValidationResult> validationResult = validationResults.get(validInstance);
+
+        if (validationResult != null) {
+            return validationResult;
+        }
+
+        if (!beansInProgress.add(bean)) {
+            return Optional.empty();
+        }
+
+        validationResult = Instrumentation.validate(validInstance, bean);
+        beansInProgress.remove(bean);
+        validationResults.put(validInstance, validationResult);
+
+        return validationResult;
+    }
+
+    static boolean isInProgress() {
+        return IN_PROGRESS.get() != null;
+    }
+
+    static <T> Optional<ValidationResult> validate(T bean, ValidInstance<? super T> validInstance) {
+        GraphValidation graphValidation = IN_PROGRESS.get();
+
+        if (graphValidation != null) {
+            return graphValidation.validateOnce(bean, validInstance);
+        }
+
+        graphValidation = new GraphValidation();
+        IN_PROGRESS.set(graphValidation);
+
+        try {
+            return graphValidation.validateOnce(bean, validInstance);
+        } finally {
+            IN_PROGRESS.remove();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.jactor.rises.builder;
+
+import java.util.Optional;
+
+/**
+ * Holds the installed {@link ValidationInstrumentation}, null when the validations are not instrumented
+ */
+final class Instrumentation {
+    static volatile ValidationInstrumentation installed;
+
+    private Instrumentation() {
+    }
+
+    /**
+     * Validates a bean, and tells the instrumentation (when installed) how long the validation took
+     */
+    static <T> Optional<ValidationResult> validate(ValidInstance<? super T> validInstance, T bean) {
+        ValidationInstrumentation validationInstrumentation = installed;
+
+        if (validationInstrumentation == null || bean == null) {
+            return validInstance.validate(bean);
+        }
+
+        long started = System.nanoTime();
+        Optional<ValidationResult> validationResult = validInstance.validate(bean);
+        validationInstrumentation.validated(bean.getClass(), System.nanoTime() - started);
+
+        return validationResult;
+    }
+}
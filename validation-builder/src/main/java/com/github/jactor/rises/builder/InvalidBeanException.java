@@ -0,0 +1,76 @@
+package com.github.jactor.rises.builder;
+
+import com.github.jactor.rises.builder.ValidationResult.InvalidField;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown when a bean is not valid. The message is not rendered before it is asked for, and the stack trace is not
+ * filled in when the exception is created without a writable stack trace. The default is given by the system property
+ * {@value #STACK_TRACE_PROPERTY} (true when not set).
+ */
+public class InvalidBeanException extends IllegalStateException {
+    public static final String STACK_TRACE_PROPERTY = "com.github.jactor.rises.builder.stackTrace";
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ClassValue<String> SIMPLE_NAMES = new ClassValue<String>() {
+        @Override protected String computeValue(Class<?> type) {
+            return type.getSimpleName();
+        }
+    };
+
+    static final boolean WRITABLE_STACK_TRACE = Boolean.parseBoolean(System.getProperty(STACK_TRACE_PROPERTY, "true"));
+
+    private final Class<?> beanClass;
+    private final List<InvalidField> invalidFields;
+    private boolean writableStackTrace;
+    private String message;
+
+    public InvalidBeanException(ValidationResult validationResult) {
+        this(validationResult, WRITABLE_STACK_TRACE);
+    }
+
+    public InvalidBeanException(ValidationResult validationResult, boolean writableStackTrace) {
+        this.beanClass = validationResult.getClassToValidate();
+        this.invalidFields = Collections.unmodifiableList(new ArrayList<>(validationResult.getInvalidFields()));
+        this.writableStackTrace = writableStackTrace;
+
+        if (writableStackTrace) {
+            super.fillInStackTrace();
+        }
+    }
+
+    @Override public String getMessage() {
+        if (message == null) {
+            String lineSeparator = System.lineSeparator();
+            StringBuilder messageBuilder = new StringBuilder(SIMPLE_NAMES.get(beanClass)).append(" has invalid fields:");
+
+            for (int i = 0; i < invalidFields.size(); i++) {
+                messageBuilder.append(i == 0 ? "" : ",").append(lineSeparator).append("- ").append(invalidFields.get(i));
+            }
+
+            message = messageBuilder.toString();
+        }
+
+        return message;
+    }
+
+    /**
+     * The stack trace is filled in by the constructor when it is writable (this method is invoked by the constructor of
+     * {@link Throwable} before the fields of this exception are initialized)
+     */
+    @Override public synchronized Throwable fillInStackTrace() {
+        return writableStackTrace ? super.fillInStackTrace() : this;
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    public List<InvalidField> getInvalidFields() {
+        return invalidFields;
+    }
+}
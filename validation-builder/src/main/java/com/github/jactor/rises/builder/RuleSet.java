@@ -0,0 +1,604 @@
+package com.github.jactor.rises.builder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * An immutable set of rules validating a bean. The field names, messages and functions of the rules are declared once,
+ * and a rule set is shared by every thread validating the bean class:
+ *
+ * <pre>
+ * public class NamedEra {
+ *     private static final RuleSet&lt;NamedEra&gt; RULE_SET = RuleSet.register(NamedEra.class, rules -&gt; rules
+ *             .notEmpty("name", NamedEra::getName, "must be named")
+ *             .notNull("beginning", NamedEra::getBeginning, "must have a beginning")
+ *     );
+ *     ...
+ * }
+ * </pre>
+ *
+ * @param <T> type of bean to validate
+ */
+public final class RuleSet<T> implements ValidInstance<T> {
+    private static final ClassValue<AtomicReference<RuleSet<?>>> RULE_SETS = new ClassValue<AtomicReference<RuleSet<?>>>() {
+        @Override protected AtomicReference<RuleSet<?>> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    private final boolean failFast;
+    private final boolean nested;
+    private final Class<T> beanClass;
+    private final Map<String, int[]> rulesDependingOn;
+    private final Rule<T>[] rules;
+    private final RuleSet<T> other;
+
+    private RuleSet(Class<T> beanClass, Rule<T>[] rules, Map<String, int[]> rulesDependingOn) {
+        this.beanClass = beanClass;
+        this.failFast = false;
+        this.rules = rules;
+        this.rulesDependingOn = rulesDependingOn;
+        this.nested = Arrays.stream(rules).anyMatch(rule -> rule instanceof NestedRule);
+        this.other = new RuleSet<>(this);
+    }
+
+    private RuleSet(RuleSet<T> collectingAll) {
+        this.beanClass = collectingAll.beanClass;
+        this.failFast = true;
+        this.nested = collectingAll.nested;
+        this.other = collectingAll;
+        this.rules = collectingAll.rules;
+        this.rulesDependingOn = collectingAll.rulesDependingOn;
+    }
+
+    @Override public Optional<ValidationResult> validate(T bean) {
+        if (nested && !GraphValidation.isInProgress()) {
+            return GraphValidation.validate(bean, this::validateRules);
+        }
+
+        return validateRules(bean);
+    }
+
+    private Optional<ValidationResult> validateRules(T bean) {
+        ValidationResult validationResult = startValidation();
+
+        for (Rule<T> rule : rules) {
+            if (validationResult.hasFailedFast()) {
+                break;
+            }
+
+            Object outcome = rule.evaluate(bean);
+
+            if (outcome != null) {
+                validationResult = rule.invalidate(validationResult, outcome);
+            }
+        }
+
+        return validationResult.returnResult();
+    }
+
+    /**
+     * Evaluates every rule concurrently using the executor, ex: a virtual thread per task executor on JDK 21 or later.
+     * This is meant for rules which are expensive and independent of each other. The invalid fields are merged in the
+     * order the rules are declared, and when failing fast, only the first invalid field in that order is kept. A rule
+     * set with rules of nested beans is validated as a whole by one task, as a graph of beans is validated on one thread
+     * to validate every bean once and detect the cycles.
+     *
+     * @param bean to validate
+     * @param executor running the rules
+     * @return a {@link CompletableFuture} completed with the outcome of {@link #validate(Object)}
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Optional<ValidationResult>> validateAsync(T bean, Executor executor) {
+        if (nested) {
+            return CompletableFuture.supplyAsync(() -> validate(bean), executor);
+        }
+
+        CompletableFuture<Object>[] outcomes = new CompletableFuture[rules.length];
+
+        for (int i = 0; i < rules.length; i++) {
+            Rule<T> rule = rules[i];
+            outcomes[i] = CompletableFuture.supplyAsync(() -> rule.evaluate(bean), executor);
+        }
+
+        return CompletableFuture.allOf(outcomes).thenApply(allEvaluated -> merge(outcomes));
+    }
+
+    private Optional<ValidationResult> merge(CompletableFuture<Object>[] outcomes) {
+        ValidationResult validationResult = startValidation();
+
+        for (int i = 0; i < rules.length && !validationResult.hasFailedFast(); i++) {
+            Object outcome = outcomes[i].join();
+
+            if (outcome != null) {
+                validationResult = rules[i].invalidate(validationResult, outcome);
+            }
+        }
+
+        return validationResult.returnResult();
+    }
+
+    private ValidationResult startValidation() {
+        return failFast ? ValidationResult.validateLazily(beanClass).failFast() : ValidationResult.validateLazily(beanClass);
+    }
+
+    /**
+     * @return a rule set with the same rules which stops validating at the first invalid field
+     */
+    public RuleSet<T> failFast() {
+        return failFast ? this : other;
+    }
+
+    /**
+     * @return a rule set with the same rules which validates every rule
+     */
+    public RuleSet<T> collectAll() {
+        return failFast ? other : this;
+    }
+
+    /**
+     * @return a new {@link Incremental} validation of this rule set
+     */
+    public Incremental<T> incremental() {
+        return new Incremental<>(this);
+    }
+
+    public Class<T> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * @param beanClass the class of the bean
+     * @param <T> type of bean
+     * @return a declaration of the rules of the bean class
+     */
+    public static <T> Declaration<T> declare(Class<T> beanClass) {
+        return new Declaration<>(beanClass);
+    }
+
+    /**
+     * Declares the rule set of a bean class and registers it, ex: in a static initializer of the bean class. A bean
+     * class has one registered rule set, which is declared once and is given by {@link #of(Class)}. Use
+     * {@link #declare(Class)} for other rule sets of the same bean class.
+     *
+     * @param beanClass the class of the bean
+     * @param declaration the declaration of the rules
+     * @param <T> type of bean
+     * @return the registered rule set of the bean class
+     * @throws IllegalStateException when a rule set of the bean class is already registered
+     */
+    public static <T> RuleSet<T> register(Class<T> beanClass, UnaryOperator<Declaration<T>> declaration) {
+        RuleSet<T> ruleSet = declaration.apply(declare(beanClass)).build();
+
+        if (!RULE_SETS.get(beanClass).compareAndSet(null, ruleSet)) {
+            throw new IllegalStateException("The rule set of " + beanClass.getName() + " is already registered");
+        }
+
+        return ruleSet;
+    }
+
+    /**
+     * Gets the registered rule set of a bean class. The bean class is initialized first, so a rule set registered by a
+     * static initializer of the bean class is found.
+     *
+     * @param beanClass the class of the bean
+     * @param <T> type of bean
+     * @return the registered rule set of the bean class
+     * @throws IllegalStateException when no rule set of the bean class is registered
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RuleSet<T> of(Class<T> beanClass) {
+        AtomicReference<RuleSet<?>> registered = RULE_SETS.get(beanClass);
+
+        if (registered.get() == null) {
+            initialize(beanClass);
+        }
+
+        RuleSet<?> ruleSet = registered.get();
+
+        if (ruleSet == null) {
+            throw new IllegalStateException("No rule set of " + beanClass.getName() + " is registered");
+        }
+
+        return (RuleSet<T>) ruleSet;
+    }
+
+    private static void initialize(Class<?> beanClass) {
+        try {
+            Class.forName(beanClass.getName(), true, beanClass.getClassLoader());
+        } catch (ClassNotFoundException cnfe) {
+            throw new IllegalStateException("Unable to initialize " + beanClass.getName(), cnfe);
+        }
+    }
+
+    /**
+     * A declaration of the rules in a {@link RuleSet}, which are validated in the order they are declared
+     *
+     * @param <T> type of bean
+     */
+    public static final class Declaration<T> {
+        private final Class<T> beanClass;
+        private final List<Rule<T>> rules = new ArrayList<>();
+        private final Map<String, List<Integer>> rulesDependingOn = new HashMap<>();
+
+        private Declaration(Class<T> beanClass) {
+            this.beanClass = beanClass;
+        }
+
+        public Declaration<T> notNull(String fieldName, Function<? super T, ?> field, String fieldMessage) {
+            return add(new Check<T>(beanClass, fieldName, fieldMessage) {
+                @Override boolean isInvalid(T bean) {
+                    return field.apply(bean) == null;
+                }
+            });
+        }
+
+        public Declaration<T> notEmpty(String fieldName, Function<? super T, String> field, String fieldMessage) {
+            return add(new Check<T>(beanClass, fieldName, fieldMessage) {
+                @Override boolean isInvalid(T bean) {
+                    return Formats.isBlank(field.apply(bean));
+                }
+            });
+        }
+
+        public Declaration<T> matches(String fieldName, Function<? super T, ? extends CharSequence> field, Pattern pattern, String fieldMessage) {
+            return add(new Check<T>(beanClass, fieldName, fieldMessage) {
+                @Override boolean isInvalid(T bean) {
+                    return !Formats.matches(field.apply(bean), pattern);
+                }
+            });
+        }
+
+        public Declaration<T> maxLength(String fieldName, Function<? super T, ? extends CharSequence> field, int maxLength, String fieldMessage) {
+            return add(new Check<T>(beanClass, fieldName, fieldMessage) {
+                @Override boolean isInvalid(T bean) {
+                    return Formats.isLongerThan(field.apply(bean), maxLength);
+                }
+            });
+        }
+
+        public Declaration<T> emailAddress(String fieldName, Function<? super T, ? extends CharSequence> field, String fieldMessage) {
+            return add(new Check<T>(beanClass, fieldName, fieldMessage) {
+                @Override boolean isInvalid(T bean) {
+                    return !Formats.isEmailAddress(field.apply(bean));
+                }
+            });
+        }
+
+        public Declaration<T> isoLocalDate(String fieldName, Function<? super T, ? extends CharSequence> field, String fieldMessage) {
+            return add(new Check<T>(beanClass, fieldName, fieldMessage) {
+                @Override boolean isInvalid(T bean) {
+                    return !Formats.isIsoLocalDate(field.apply(bean));
+                }
+            });
+        }
+
+        public Declaration<T> notTrue(String fieldName, Predicate<? super T> condition, String fieldMessage) {
+            return add(new Check<T>(beanClass, fieldName, fieldMessage) {
+                @Override boolean isInvalid(T bean) {
+                    return condition.test(bean);
+                }
+            });
+        }
+
+        public Declaration<T> notFalse(String fieldName, Predicate<? super T> condition, String fieldMessage) {
+            return add(new Check<T>(beanClass, fieldName, fieldMessage) {
+                @Override boolean isInvalid(T bean) {
+                    return !condition.test(bean);
+                }
+            });
+        }
+
+        public Declaration<T> positive(String fieldName, ToLongFunction<? super T> field, String fieldMessage) {
+            return add(new Check<T>(beanClass, fieldName, fieldMessage) {
+                @Override boolean isInvalid(T bean) {
+                    return field.applyAsLong(bean) <= 0;
+                }
+            });
+        }
+
+        public Declaration<T> inRange(String fieldName, ToLongFunction<? super T> field, long min, long max, String fieldMessage) {
+            return add(new Check<T>(beanClass, fieldName, fieldMessage) {
+                @Override boolean isInvalid(T bean) {
+                    long fieldValue = field.applyAsLong(bean);
+                    return fieldValue < min || fieldValue > max;
+                }
+            });
+        }
+
+        public Declaration<T> notNaN(String fieldName, ToDoubleFunction<? super T> field, String fieldMessage) {
+            return add(new Check<T>(beanClass, fieldName, fieldMessage) {
+                @Override boolean isInvalid(T bean) {
+                    return Double.isNaN(field.applyAsDouble(bean));
+                }
+            });
+        }
+
+        /**
+         * Declares a child bean which must be valid. The invalid fields of the child are named by their path from this
+         * bean, ex: {@code beginning.year}. A child which is null is valid.
+         *
+         * @param fieldName the name of the field with the child
+         * @param child function getting the child
+         * @param validInstance validating the child
+         * @param <C> type of child
+         * @return this declaration
+         */
+        public <C> Declaration<T> valid(String fieldName, Function<? super T, ? extends C> child, ValidInstance<? super C> validInstance) {
+            return add(new NestedRule<T>(fieldName) {
+                @Override Object evaluate(T bean) {
+                    C childBean = child.apply(bean);
+
+                    if (childBean == null) {
+                        return null;
+                    }
+
+                    return GraphValidation.validate(childBean, validInstance)
+                            .map(validationResult -> Collections.singletonList(new NestedResult(fieldName, validationResult)))
+                            .orElse(null);
+                }
+            });
+        }
+
+        /**
+         * Declares children which must be valid. The invalid fields of a child are named by their path from this bean,
+         * ex: {@code eras[3].name}. Children which are null are valid.
+         *
+         * @param fieldName the name of the field with the children
+         * @param children function getting the children
+         * @param validInstance validating a child
+         * @param <C> type of child
+         * @return this declaration
+         */
+        public <C> Declaration<T> eachValid(String fieldName, Function<? super T, ? extends Iterable<? extends C>> children, ValidInstance<? super C> validInstance) {
+            return add(new NestedRule<T>(fieldName) {
+                @Override Object evaluate(T bean) {
+                    Iterable<? extends C> childBeans = children.apply(bean);
+                    List<NestedResult> nestedResults = null;
+                    int index = 0;
+
+                    if (childBeans != null) {
+                        for (C childBean : childBeans) {
+                            nestedResults = addInvalid(nestedResults, childBean, validInstance, index++);
+                        }
+                    }
+
+                    return nestedResults;
+                }
+            });
+        }
+
+        /**
+         * Declares children mapped by keys which must be valid. The invalid fields of a child are named by their path
+         * from this bean, ex: {@code erasByName[bronze age].name}. Children which are null are valid.
+         *
+         * @param fieldName the name of the field with the map
+         * @param children function getting the map
+         * @param validInstance validating a child
+         * @param <C> type of child
+         * @return this declaration
+         */
+        public <C> Declaration<T> eachValidValue(String fieldName, Function<? super T, ? extends Map<?, ? extends C>> children, ValidInstance<? super C> validInstance) {
+            return add(new NestedRule<T>(fieldName) {
+                @Override Object evaluate(T bean) {
+                    Map<?, ? extends C> childBeans = children.apply(bean);
+                    List<NestedResult> nestedResults = null;
+
+                    if (childBeans != null) {
+                        for (Map.Entry<?, ? extends C> childBean : childBeans.entrySet()) {
+                            nestedResults = addInvalid(nestedResults, childBean.getValue(), validInstance, childBean.getKey());
+                        }
+                    }
+
+                    return nestedResults;
+                }
+            });
+        }
+
+        /**
+         * Declares the fields the last declared rule depends on. An {@link Incremental} validation only evaluates the
+         * rule again when one of these fields is changed. A rule without any declared fields is always evaluated, and so
+         * is a rule of nested beans, as a nested bean can change without its parent being told.
+         *
+         * @param fieldNames the names of the fields
+         * @return this declaration
+         */
+        public Declaration<T> dependsOn(String... fieldNames) {
+            if (rules.isEmpty()) {
+                throw new IllegalStateException("no rule is declared to depend on " + Arrays.toString(fieldNames));
+            }
+
+            for (String fieldName : fieldNames) {
+                rulesDependingOn.computeIfAbsent(fieldName, name -> new ArrayList<>()).add(rules.size() - 1);
+            }
+
+            return this;
+        }
+
+        private Declaration<T> add(Rule<T> rule) {
+            rules.add(rule);
+            return this;
+        }
+
+        @SuppressWarnings("unchecked") public RuleSet<T> build() {
+            Map<String, int[]> ruleIndexesDependingOn = new HashMap<>();
+            rulesDependingOn.forEach((fieldName, ruleIndexes) -> ruleIndexesDependingOn.put(
+                    fieldName, ruleIndexes.stream().mapToInt(Integer::intValue).distinct().toArray()
+            ));
+
+            return new RuleSet<>(beanClass, rules.toArray(new Rule[0]), Collections.unmodifiableMap(ruleIndexesDependingOn));
+        }
+    }
+
+    /**
+     * A validation of a {@link RuleSet} which reuses the outcome of a rule until a field which the rule depends on is
+     * marked as dirty, see {@link Declaration#dependsOn(String...)}. The outcomes of the rules of nested beans are never
+     * reused. It is not thread safe and is meant to be confined to one builder.
+     *
+     * @param <T> type of bean
+     */
+    public static final class Incremental<T> implements ValidInstance<T> {
+        private final RuleSet<T> ruleSet;
+        private final boolean[] dependentRules;
+        private final boolean[] staleRules;
+        private final Object[] outcomes;
+
+        private Incremental(RuleSet<T> ruleSet) {
+            this.ruleSet = ruleSet;
+            dependentRules = new boolean[ruleSet.rules.length];
+            outcomes = new Object[ruleSet.rules.length];
+            staleRules = new boolean[ruleSet.rules.length];
+            Arrays.fill(staleRules, true);
+
+            for (int[] ruleIndexes : ruleSet.rulesDependingOn.values()) {
+                for (int ruleIndex : ruleIndexes) {
+                    dependentRules[ruleIndex] = !(ruleSet.rules[ruleIndex] instanceof NestedRule);
+                }
+            }
+        }
+
+        @Override public Optional<ValidationResult> validate(T bean) {
+            if (ruleSet.nested && !GraphValidation.isInProgress()) {
+                return GraphValidation.validate(bean, this::validateRules);
+            }
+
+            return validateRules(bean);
+        }
+
+        private Optional<ValidationResult> validateRules(T bean) {
+            Rule<T>[] rules = ruleSet.rules;
+            ValidationResult validationResult = ruleSet.startValidation();
+
+            for (int i = 0; i < rules.length && !validationResult.hasFailedFast(); i++) {
+                if (staleRules[i]) {
+                    outcomes[i] = rules[i].evaluate(bean);
+                    staleRules[i] = !dependentRules[i];
+                }
+
+                if (outcomes[i] != null) {
+                    validationResult = rules[i].invalidate(validationResult, outcomes[i]);
+                }
+            }
+
+            return validationResult.returnResult();
+        }
+
+        /**
+         * Marks every field as dirty, so every rule is evaluated on the next validation
+         */
+        public void markAllDirty() {
+            Arrays.fill(staleRules, true);
+        }
+
+        /**
+         * @param fieldName the name of a changed field, whose depending rules are evaluated on the next validation
+         */
+        public void markDirty(String fieldName) {
+            int[] ruleIndexes = ruleSet.rulesDependingOn.get(fieldName);
+
+            if (ruleIndexes != null) {
+                for (int ruleIndex : ruleIndexes) {
+                    staleRules[ruleIndex] = true;
+                }
+            }
+        }
+    }
+
+    private abstract static class Rule<T> {
+        final String fieldName;
+
+        private Rule(String fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        /**
+         * @return {@code null} when the bean is valid, otherwise the outcome to {@link #invalidate(ValidationResult, Object)}
+         */
+        abstract Object evaluate(T bean);
+
+        abstract ValidationResult invalidate(ValidationResult validationResult, Object outcome);
+    }
+
+    private abstract static class Check<T> extends Rule<T> {
+        private final ValidationResult.InvalidField invalidField;
+
+        private Check(Class<T> beanClass, String fieldName, String fieldMessage) {
+            super(fieldName);
+            this.invalidField = ValidationResult.InvalidField.of(beanClass, fieldName, fieldMessage);
+        }
+
+        abstract boolean isInvalid(T bean);
+
+        @Override Object evaluate(T bean) {
+            return isInvalid(bean) ? Boolean.TRUE : null;
+        }
+
+        @Override ValidationResult invalidate(ValidationResult validationResult, Object outcome) {
+            return validationResult.invalid(invalidField);
+        }
+    }
+
+    private abstract static class NestedRule<T> extends Rule<T> {
+        private NestedRule(String fieldName) {
+            super(fieldName);
+        }
+
+        <C> List<NestedResult> addInvalid(List<NestedResult> nestedResults, C childBean, ValidInstance<? super C> validInstance, Object key) {
+            if (childBean == null) {
+                return nestedResults;
+            }
+
+            Optional<ValidationResult> validationResult = GraphValidation.validate(childBean, validInstance);
+
+            if (!validationResult.isPresent()) {
+                return nestedResults;
+            }
+
+            List<NestedResult> invalidResults = nestedResults != null ? nestedResults : new ArrayList<>();
+            invalidResults.add(new NestedResult(fieldName + '[' + key + ']', validationResult.get()));
+
+            return invalidResults;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override ValidationResult invalidate(ValidationResult validationResult, Object outcome) {
+            ValidationResult invalidResult = validationResult;
+
+            for (NestedResult nestedResult : (List<NestedResult>) outcome) {
+                for (ValidationResult.InvalidField invalidField : nestedResult.validationResult.getInvalidFields()) {
+                    invalidResult = invalidResult.invalidPath(nestedResult.path + '.' + invalidField.getFieldName(), invalidField.getFieldMessage());
+
+                    if (invalidResult.hasFailedFast()) {
+                        return invalidResult;
+                    }
+                }
+            }
+
+            return invalidResult;
+        }
+    }
+
+    private static final class NestedResult {
+        private final String path;
+        private final ValidationResult validationResult;
+
+        private NestedResult(String path, ValidationResult validationResult) {
+            this.path = path;
+            this.validationResult = validationResult;
+        }
+    }
+}
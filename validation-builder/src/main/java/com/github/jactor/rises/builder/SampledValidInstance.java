@@ -0,0 +1,84 @@
+package com.github.jactor.rises.builder;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ValidInstance} which only validates the beans chosen by a {@link SamplingPolicy}, ex: for trusted producers
+ * where validating every bean is too expensive, but drift should still be detected. A bean which is not sampled is
+ * regarded as valid. Every sampled validation is reported to a {@link Listener} with the failure rate of the samples.
+ *
+ * @param <T> type of bean
+ */
+public final class SampledValidInstance<T> implements ValidInstance<T> {
+    private final Class<T> beanClass;
+    private final Listener listener;
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder sampled = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final SamplingPolicy samplingPolicy;
+    private final ValidInstance<T> validInstance;
+
+    public SampledValidInstance(Class<T> beanClass, ValidInstance<T> validInstance, SamplingPolicy samplingPolicy, Listener listener) {
+        this.beanClass = beanClass;
+        this.validInstance = validInstance;
+        this.samplingPolicy = samplingPolicy;
+        this.listener = listener;
+    }
+
+    @Override public Optional<ValidationResult> validate(T bean) {
+        if (!samplingPolicy.sample()) {
+            skipped.increment();
+            return Optional.empty();
+        }
+
+        Optional<ValidationResult> validationResult = validInstance.validate(bean);
+        sampled.increment();
+
+        if (validationResult.isPresent()) {
+            failed.increment();
+        }
+
+        listener.sampled(beanClass, validationResult, getFailureRate());
+
+        return validationResult;
+    }
+
+    public Class<T> getBeanClass() {
+        return beanClass;
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * @return the failed samples divided by the samples, or zero before the first sample
+     */
+    public double getFailureRate() {
+        long noOfSamples = sampled.sum();
+
+        return noOfSamples == 0 ? 0 : (double) failed.sum() / noOfSamples;
+    }
+
+    public long getSampledCount() {
+        return sampled.sum();
+    }
+
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+
+    /**
+     * Listens to the sampled validations, and is invoked by every thread validating the bean class
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * @param beanClass the class of the sampled bean
+         * @param validationResult the validation result of the sampled bean
+         * @param failureRate the failed samples divided by the samples of the bean class
+         */
+        void sampled(Class<?> beanClass, Optional<ValidationResult> validationResult, double failureRate);
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.jactor.rises.builder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides whether a bean is validated by a {@link SampledValidInstance}. A policy is used by every thread building the
+ * bean class, so it must be thread safe.
+ */
+@FunctionalInterface
+public interface SamplingPolicy {
+    /**
+     * @return true when the bean should be validated
+     */
+    boolean sample();
+
+    /**
+     * @return a policy validating every bean
+     */
+    static SamplingPolicy always() {
+        return () -> true;
+    }
+
+    /**
+     * @param n the average number of beans per validated bean
+     * @return a policy validating a random bean in every n beans, using a random source of the current thread
+     */
+    static SamplingPolicy oneIn(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("one in " + n + " is not a sampling rate");
+        }
+
+        return n == 1 ? always() : () -> ThreadLocalRandom.current().nextInt(n) == 0;
+    }
+
+    /**
+     * @param interval the minimum time between the validated beans
+     * @param timeUnit the unit of the interval
+     * @return a policy validating at most one bean in every interval, where only the sampled bean updates the shared
+     * time of the next sample
+     */
+    static SamplingPolicy atMostEvery(long interval, TimeUnit timeUnit) {
+        long intervalNanos = timeUnit.toNanos(interval);
+        AtomicLong nextSample = new AtomicLong(System.nanoTime());
+
+        return () -> {
+            long now = System.nanoTime();
+            long next = nextSample.get();
+
+            return now - next >= 0 && nextSample.compareAndSet(next, now + intervalNanos);
+        };
+    }
+}
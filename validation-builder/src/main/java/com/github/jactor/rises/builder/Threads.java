@@ -0,0 +1,18 @@
+package com.github.jactor.rises.builder;
+
+/**
+ * The threads used by the builders. This is the implementation for Java 8, and the multi-release jar contains an
+ * implementation for JDK 21 or later (in {@code src/main/java21}).
+ */
+final class Threads {
+
+    private Threads() {
+    }
+
+    /**
+     * @return if the current thread is a virtual thread, which is never the case before JDK 21
+     */
+    static boolean isVirtual() {
+        return false;
+    }
+}
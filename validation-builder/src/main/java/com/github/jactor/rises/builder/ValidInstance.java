@@ -1,6 +1,11 @@
 package com.github.jactor.rises.builder;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Every builder should be able to validate the bean it is building
@@ -12,4 +17,47 @@ public interface ValidInstance<T> {
      * @return an {@link Optional} with a {@link ValidationResult} if instance is not valid, {@link Optional#empty()} if valid
      */
     Optional<ValidationResult> validate(T bean);
+
+    /**
+     * @param beans to validate
+     * @return a {@link BatchResult} with the valid beans and the {@link ValidationResult}s of the invalid beans
+     */
+    default BatchResult<T> validateAll(Collection<? extends T> beans) {
+        return BatchValidation.of(this).validate(beans);
+    }
+
+    /**
+     * Collects the beans in encounter order before validating them, and closes the stream when they are validated. Use
+     * {@link #validateAll(Stream, BiConsumer, ValidationSummary)} to validate a stream without collecting it.
+     *
+     * @param beans to validate
+     * @return a {@link BatchResult} with the valid beans and the {@link ValidationResult}s of the invalid beans
+     */
+    default BatchResult<T> validateAll(Stream<? extends T> beans) {
+        return BatchValidation.of(this).validate(beans);
+    }
+
+    /**
+     * @param beans to validate in parallel
+     * @param forkJoinPool the pool running the validation
+     * @return a {@link BatchResult} with the valid beans and the {@link ValidationResult}s of the invalid beans
+     */
+    default BatchResult<T> validateAll(Collection<? extends T> beans, ForkJoinPool forkJoinPool) {
+        return BatchValidation.of(this).validate(beans, forkJoinPool);
+    }
+
+    /**
+     * Validates the beans lazily as they flow through the returned stream, without collecting them. The returned stream
+     * is parallel when the given stream is parallel, and closing it closes the given stream.
+     *
+     * @param beans to validate
+     * @param invalidBeans receiving every invalid bean with its {@link ValidationResult}, must be thread safe when the
+     * stream is parallel
+     * @param validationSummary counting the valid and invalid beans
+     * @return a stream of the valid beans
+     */
+    default Stream<T> validateAll(Stream<T> beans, BiConsumer<? super T, ? super ValidationResult> invalidBeans, ValidationSummary validationSummary) {
+        return StreamSupport.stream(new ValidatingSpliterator<>(beans.spliterator(), this, invalidBeans, validationSummary), beans.isParallel())
+                .onClose(beans::close);
+    }
 }
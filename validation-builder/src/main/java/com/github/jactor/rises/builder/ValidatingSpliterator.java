@@ -0,0 +1,90 @@
+package com.github.jactor.rises.builder;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} validating the beans of another spliterator as they are advanced, only passing on the valid
+ * beans. Splitting the spliterator splits the source, so the beans are never buffered.
+ *
+ * @param <T> type of bean
+ */
+final class ValidatingSpliterator<T> implements Spliterator<T> {
+    private final BiConsumer<? super T, ? super ValidationResult> invalidBeans;
+    private final Spliterator<T> source;
+    private final ValidInstance<? super T> validInstance;
+    private final ValidationSummary validationSummary;
+    private final Consumer<T> advanced = bean -> this.bean = bean;
+
+    private T bean;
+
+    ValidatingSpliterator(
+            Spliterator<T> source,
+            ValidInstance<? super T> validInstance,
+            BiConsumer<? super T, ? super ValidationResult> invalidBeans,
+            ValidationSummary validationSummary
+    ) {
+        this.source = source;
+        this.validInstance = validInstance;
+        this.invalidBeans = invalidBeans;
+        this.validationSummary = validationSummary;
+    }
+
+    @Override public boolean tryAdvance(Consumer<? super T> action) {
+        while (source.tryAdvance(advanced)) {
+            T advancedBean = bean;
+            bean = null;
+
+            if (isValid(advancedBean)) {
+                action.accept(advancedBean);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override public void forEachRemaining(Consumer<? super T> action) {
+        source.forEachRemaining(sourceBean -> {
+            if (isValid(sourceBean)) {
+                action.accept(sourceBean);
+            }
+        });
+    }
+
+    private boolean isValid(T sourceBean) {
+        Optional<ValidationResult> validationResult = Instrumentation.validate(validInstance, sourceBean);
+
+        if (validationResult.isPresent()) {
+            validationSummary.invalid(validationResult.get());
+            invalidBeans.accept(sourceBean, validationResult.get());
+
+            return false;
+        }
+
+        validationSummary.valid();
+
+        return true;
+    }
+
+    @Override public Spliterator<T> trySplit() {
+        Spliterator<T> prefix = source.trySplit();
+
+        return prefix != null ? new ValidatingSpliterator<>(prefix, validInstance, invalidBeans, validationSummary) : null;
+    }
+
+    @Override public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override public int characteristics() {
+        return source.characteristics() & ~(SIZED | SUBSIZED);
+    }
+
+    @Override public Comparator<? super T> getComparator() {
+        return source.getComparator();
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.jactor.rises.builder;
+
+import com.github.jactor.rises.builder.ValidationResult.InvalidField;
+
+import java.util.List;
+
+/**
+ * An optional instrumentation of the validations, ex: {@code com.github.jactor.rises.builder.metrics.ValidationMetrics}.
+ * When no instrumentation is installed, the validations only pay for reading a volatile field.
+ */
+public interface ValidationInstrumentation {
+
+    /**
+     * Invoked when a validation is started by {@link ValidationResult#validate(Class)} or
+     * {@link ValidationResult#validateLazily(Class)}
+     *
+     * @param beanClass the class being validated
+     */
+    default void validationStarted(Class<?> beanClass) {
+    }
+
+    /**
+     * Invoked by {@link ValidationResult#returnResult()}
+     *
+     * @param beanClass the class being validated
+     * @param invalidFields the invalid fields, empty when the bean is valid, which are held by the validation result and
+     * must not be modified nor kept
+     */
+    default void validationCompleted(Class<?> beanClass, List<InvalidField> invalidFields) {
+    }
+
+    /**
+     * Invoked when a bean is validated by a {@link ValidInstance} on behalf of this library, ex: when a builder is built,
+     * when the beans are validated by the {@code validateAll} methods of a {@link ValidInstance}, or when a nested bean is validated by a {@link RuleSet}. A bean validated
+     * by invoking {@link ValidInstance#validate(Object)} directly is only timed by the instrumentation of the nested beans.
+     *
+     * @param beanClass the class being validated, which is the type argument of the builder when a bean is built
+     * @param nanos the time used to validate the bean
+     */
+    default void validated(Class<?> beanClass, long nanos) {
+    }
+
+    /**
+     * Invoked by {@link AbstractBuilder} when a bean is built and validated, ex: by {@link AbstractBuilder#build()} or
+     * {@link AbstractBuilder#tryBuild()}
+     *
+     * @param beanClass the class given as type argument of the builder, ex: {@code NamedEra} for a
+     * {@code AbstractBuilder<NamedEra>}
+     * @param nanos the time used to build and validate the bean
+     * @param valid if the bean is valid
+     */
+    default void built(Class<?> beanClass, long nanos, boolean valid) {
+    }
+
+    static void install(ValidationInstrumentation validationInstrumentation) {
+        Instrumentation.installed = validationInstrumentation;
+    }
+
+    static void uninstall() {
+        Instrumentation.installed = null;
+    }
+}
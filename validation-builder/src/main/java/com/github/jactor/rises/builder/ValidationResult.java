@@ -1,84 +1,414 @@
 package com.github.jactor.rises.builder;
 
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
 public class ValidationResult {
-    private static NewInstance newInstance = ValidationResult::new;
+    private static final NewInstance DEFAULT_NEW_INSTANCE = ValidationResult::new;
+    private static final ClassValue<ValidationResult> VALID_RESULTS = new ClassValue<ValidationResult>() {
+        @Override protected ValidationResult computeValue(Class<?> type) {
+            return new ValidResult(type, false);
+        }
+    };
+
+    private static final ClassValue<ValidationResult> VALID_RESULTS_FAILING_FAST = new ClassValue<ValidationResult>() {
+        @Override protected ValidationResult computeValue(Class<?> type) {
+            return new ValidResult(type, true);
+        }
+    };
+
+    private static final AtomicInteger THREADS_WITH_NEW_INSTANCE = new AtomicInteger();
+    private static final ThreadLocal<NewInstance> NEW_INSTANCE_FOR_THREAD = new ThreadLocal<>();
+
+    private static volatile NewInstance newInstance = DEFAULT_NEW_INSTANCE;
 
     private final List<InvalidField> names = new ArrayList<>();
     private Class<?> classToValidate;
+    private boolean failFast;
+    private boolean failedFast;
 
     protected ValidationResult() {
     }
 
+    /**
+     * Turns on the fail-fast mode where every check following the first invalid field is skipped, ex: to avoid
+     * evaluating expensive {@link FieldCondition}s for a bean which will be rejected anyway
+     *
+     * @return a validation result which stops validating at the first invalid field
+     */
+    public ValidationResult failFast() {
+        failFast = true;
+        failedFast = !names.isEmpty();
+
+        return this;
+    }
+
     public ValidationResult notNull(String fieldName, Object fieldValue, String fieldMessage) {
-        if (fieldValue == null) {
-            names.add(new InvalidField(fieldName, fieldMessage));
+        if (!failedFast && fieldValue == null) {
+            return invalid(fieldName, fieldMessage);
         }
 
         return this;
     }
 
     public ValidationResult notEmpty(String fieldName, String fieldValue, String fieldMessage) {
-        if (fieldValue == null || "".equals(fieldValue.trim())) {
-            names.add(new InvalidField(fieldName, fieldMessage));
+        if (!failedFast && Formats.isBlank(fieldValue)) {
+            return invalid(fieldName, fieldMessage);
+        }
+
+        return this;
+    }
+
+    /**
+     * @param fieldName name of the field
+     * @param fieldValue value of the field, which is invalid when null
+     * @param pattern the value must match
+     * @param fieldMessage message when the value does not match
+     * @return the validation result
+     */
+    public ValidationResult matches(String fieldName, CharSequence fieldValue, Pattern pattern, String fieldMessage) {
+        if (!failedFast && !Formats.matches(fieldValue, pattern)) {
+            return invalid(fieldName, fieldMessage);
+        }
+
+        return this;
+    }
+
+    /**
+     * @param fieldName name of the field
+     * @param fieldValue value of the field, which is invalid when null
+     * @param regex the value must match, which is compiled once and then cached
+     * @param fieldMessage message when the value does not match
+     * @return the validation result
+     */
+    public ValidationResult matches(String fieldName, CharSequence fieldValue, String regex, String fieldMessage) {
+        if (!failedFast && !Formats.matches(fieldValue, Formats.patternOf(regex))) {
+            return invalid(fieldName, fieldMessage);
+        }
+
+        return this;
+    }
+
+    /**
+     * @param fieldName name of the field
+     * @param fieldValue value of the field, which is valid when null
+     * @param maxLength the maximum length of the value (inclusive)
+     * @param fieldMessage message when the value is too long
+     * @return the validation result
+     */
+    public ValidationResult maxLength(String fieldName, CharSequence fieldValue, int maxLength, String fieldMessage) {
+        if (!failedFast && Formats.isLongerThan(fieldValue, maxLength)) {
+            return invalid(fieldName, fieldMessage);
+        }
+
+        return this;
+    }
+
+    /**
+     * @param fieldName name of the field
+     * @param fieldValue value of the field, which is invalid when it is not an email address or null
+     * @param fieldMessage message when the value is not an email address
+     * @return the validation result
+     */
+    public ValidationResult emailAddress(String fieldName, CharSequence fieldValue, String fieldMessage) {
+        if (!failedFast && !Formats.isEmailAddress(fieldValue)) {
+            return invalid(fieldName, fieldMessage);
+        }
+
+        return this;
+    }
+
+    /**
+     * @param fieldName name of the field
+     * @param fieldValue value of the field, which is invalid when it is not a date formatted as yyyy-MM-dd or null
+     * @param fieldMessage message when the value is not a date
+     * @return the validation result
+     */
+    public ValidationResult isoLocalDate(String fieldName, CharSequence fieldValue, String fieldMessage) {
+        if (!failedFast && !Formats.isIsoLocalDate(fieldValue)) {
+            return invalid(fieldName, fieldMessage);
         }
 
         return this;
     }
 
     public ValidationResult notTrue(String fieldName, FieldCondition fieldCondition, String fieldMessage) {
-        if (fieldCondition.isTrue()) {
-            names.add(new InvalidField(fieldName, fieldMessage));
+        if (!failedFast && fieldCondition.isTrue()) {
+            return invalid(fieldName, fieldMessage);
+        }
+
+        return this;
+    }
+
+    public ValidationResult notTrue(String fieldName, boolean condition, String fieldMessage) {
+        if (!failedFast && condition) {
+            return invalid(fieldName, fieldMessage);
         }
 
         return this;
     }
 
     public ValidationResult notFalse(String fieldName, FieldCondition fieldCondition, String fieldMessage) {
-        if (!fieldCondition.isTrue()) {
-            names.add(new InvalidField(fieldName, fieldMessage));
+        if (!failedFast && !fieldCondition.isTrue()) {
+            return invalid(fieldName, fieldMessage);
         }
 
         return this;
     }
 
+    public ValidationResult notFalse(String fieldName, boolean condition, String fieldMessage) {
+        if (!failedFast && !condition) {
+            return invalid(fieldName, fieldMessage);
+        }
+
+        return this;
+    }
+
+    public ValidationResult positive(String fieldName, long fieldValue, String fieldMessage) {
+        if (!failedFast && fieldValue <= 0) {
+            return invalid(fieldName, fieldMessage);
+        }
+
+        return this;
+    }
+
+    /**
+     * @param fieldName name of the field
+     * @param fieldValue value of the field
+     * @param min the lowest valid value (inclusive)
+     * @param max the highest valid value (inclusive)
+     * @param fieldMessage message when the value is outside the range
+     * @return the validation result
+     */
+    public ValidationResult inRange(String fieldName, int fieldValue, int min, int max, String fieldMessage) {
+        if (!failedFast && (fieldValue < min || fieldValue > max)) {
+            return invalid(fieldName, fieldMessage);
+        }
+
+        return this;
+    }
+
+    /**
+     * @param fieldName name of the field
+     * @param fieldValue value of the field
+     * @param min the lowest valid value (inclusive)
+     * @param max the highest valid value (inclusive)
+     * @param fieldMessage message when the value is outside the range
+     * @return the validation result
+     */
+    public ValidationResult inRange(String fieldName, long fieldValue, long min, long max, String fieldMessage) {
+        if (!failedFast && (fieldValue < min || fieldValue > max)) {
+            return invalid(fieldName, fieldMessage);
+        }
+
+        return this;
+    }
+
+    public ValidationResult notNaN(String fieldName, double fieldValue, String fieldMessage) {
+        if (!failedFast && Double.isNaN(fieldValue)) {
+            return invalid(fieldName, fieldMessage);
+        }
+
+        return this;
+    }
+
+    ValidationResult invalid(String fieldName, String fieldMessage) {
+        return invalid(InvalidField.of(classToValidate, fieldName, fieldMessage));
+    }
+
+    /**
+     * Adds an invalid field which is not interned, ex: a field named by its path in a graph of beans
+     */
+    ValidationResult invalidPath(String fieldPath, String fieldMessage) {
+        return invalid(new InvalidField(classToValidate, fieldPath, fieldMessage));
+    }
+
+    ValidationResult invalid(InvalidField invalidField) {
+        names.add(invalidField);
+        failedFast = failFast;
+
+        return this;
+    }
+
+    boolean hasFailedFast() {
+        return failedFast;
+    }
+
     public Optional<ValidationResult> returnResult() {
+        ValidationInstrumentation validationInstrumentation = Instrumentation.installed;
+
+        if (validationInstrumentation != null) {
+            validationInstrumentation.validationCompleted(classToValidate, names);
+        }
+
         return names.isEmpty() ? Optional.empty() : Optional.of(this);
     }
 
     protected void throwIllegalStateExceptionWhenInvalid() {
-        throw new IllegalStateException(
-                String.format("%s has invalid fields:%n- %s", getClassToValidate().getSimpleName(),
-                        names.stream().map(Object::toString).collect(Collectors.joining(String.format(",%n- ")))
-                )
-        );
+        throw new InvalidBeanException(this);
+    }
+
+    public List<InvalidField> getInvalidFields() {
+        return Collections.unmodifiableList(names);
     }
 
     protected Class<?> getClassToValidate() {
         return classToValidate;
     }
 
-    private void setClassToValidate(Class<?> classToValidate) {
+    void setClassToValidate(Class<?> classToValidate) {
         this.classToValidate = classToValidate;
     }
 
+    /**
+     * Resets the hook for creating new instances, both the one for all threads and the one for the current thread
+     */
     public static void reset() {
-        newInstance = ValidationResult::new;
+        newInstance = DEFAULT_NEW_INSTANCE;
+        resetForCurrentThread();
+    }
+
+    /**
+     * Resets the hook for creating new instances which is only used by the current thread
+     */
+    public static void resetForCurrentThread() {
+        if (NEW_INSTANCE_FOR_THREAD.get() != null) {
+            NEW_INSTANCE_FOR_THREAD.remove();
+            THREADS_WITH_NEW_INSTANCE.decrementAndGet();
+        }
     }
 
     public static ValidationResult validate(Class<?> clazz) {
-        ValidationResult validationResult = newInstance.init();
+        instrumentValidationOf(clazz);
+
+        return newValidationResult(clazz);
+    }
+
+    /**
+     * Starts a validation which does not allocate anything as long as every check passes. The returned instance is
+     * shared and immutable, and the first failing check returns a new result, so the checks must be chained and only
+     * the value returned by the last check (or by {@link #returnResult()}) should be used. When a hook for creating new
+     * instances is set, ex: by a test or a profiler, the validation is not lazy and the hook creates the result.
+     *
+     * <p>A caller keeping the returned instance and invoking the checks on it one by one silently loses every failure,
+     * as the shared instance always stays valid:
+     * <pre>
+     * ValidationResult validationResult = ValidationResult.validateLazily(NamedEra.class);
+     * validationResult.notNull("name", null, "must be named"); // the failure is returned, not kept
+     * return validationResult.returnResult(); // always empty
+     * </pre>
+     *
+     * @param clazz the class being validated
+     * @return a shared result representing a valid instance of the class
+     */
+    public static ValidationResult validateLazily(Class<?> clazz) {
+        instrumentValidationOf(clazz);
+
+        return currentNewInstance() == DEFAULT_NEW_INSTANCE ? VALID_RESULTS.get(clazz) : newValidationResult(clazz);
+    }
+
+    private static void instrumentValidationOf(Class<?> clazz) {
+        ValidationInstrumentation validationInstrumentation = Instrumentation.installed;
+
+        if (validationInstrumentation != null) {
+            validationInstrumentation.validationStarted(clazz);
+        }
+    }
+
+    /**
+     * Sets a hook for creating new instances which is used by all threads
+     *
+     * @param newInstance the hook to use, or null to use the default hook
+     * @return the hook which was used by all threads, or null when it was the default hook
+     */
+    protected static synchronized NewInstance setNewInstance(NewInstance newInstance) {
+        NewInstance previousNewInstance = ValidationResult.newInstance;
+        ValidationResult.newInstance = newInstance != null ? newInstance : DEFAULT_NEW_INSTANCE;
+
+        return previousNewInstance != DEFAULT_NEW_INSTANCE ? previousNewInstance : null;
+    }
+
+    /**
+     * Restores the hook which was used by all threads before a hook was set with {@link #setNewInstance(NewInstance)}
+     *
+     * @param newInstance the hook set by the caller
+     * @param previousNewInstance the hook returned when the caller set its hook
+     * @throws IllegalStateException when all threads do not use the hook set by the caller
+     */
+    protected static synchronized void restoreNewInstance(NewInstance newInstance, NewInstance previousNewInstance) {
+        if (ValidationResult.newInstance != newInstance) {
+            throw new IllegalStateException("Another hook for creating new instances is used by all threads and must be restored first");
+        }
+
+        setNewInstance(previousNewInstance);
+    }
+
+    /**
+     * Sets a hook for creating new instances which is only used by the current thread, ex: by a test which is running
+     * concurrently with other tests. It takes precedence over the hook set for all threads until
+     * {@link #resetForCurrentThread()} is invoked by the same thread.
+     *
+     * @param newInstance the hook to use on the current thread, or null to reset it
+     * @return the hook which was used by the current thread, or null when none was set
+     */
+    protected static NewInstance setNewInstanceForCurrentThread(NewInstance newInstance) {
+        NewInstance previousNewInstance = NEW_INSTANCE_FOR_THREAD.get();
+
+        if (newInstance == null) {
+            resetForCurrentThread();
+        } else {
+            if (previousNewInstance == null) {
+                THREADS_WITH_NEW_INSTANCE.incrementAndGet();
+            }
+
+            NEW_INSTANCE_FOR_THREAD.set(newInstance);
+        }
+
+        return previousNewInstance;
+    }
+
+    /**
+     * Restores the hook which was used by the current thread before a hook was set with
+     * {@link #setNewInstanceForCurrentThread(NewInstance)}, so hooks set by several owners, ex: two extensions of a test,
+     * must be restored in the reverse order of when they were set.
+     *
+     * @param newInstance the hook set by the caller
+     * @param previousNewInstance the hook returned when the caller set its hook
+     * @throws IllegalStateException when the current thread does not use the hook set by the caller
+     */
+    protected static void restoreNewInstanceForCurrentThread(NewInstance newInstance, NewInstance previousNewInstance) {
+        if (NEW_INSTANCE_FOR_THREAD.get() != newInstance) {
+            throw new IllegalStateException("Another hook for creating new instances is used by the current thread and must be restored first");
+        }
+
+        setNewInstanceForCurrentThread(previousNewInstance);
+    }
+
+    private static ValidationResult newValidationResult(Class<?> clazz) {
+        ValidationResult validationResult = currentNewInstance().init();
         validationResult.setClassToValidate(clazz);
 
         return validationResult;
     }
 
-    protected static void setNewInstance(NewInstance newInstance) {
-        ValidationResult.newInstance = newInstance;
+    private static NewInstance currentNewInstance() {
+        if (THREADS_WITH_NEW_INSTANCE.get() > 0) {
+            NewInstance newInstanceForThread = NEW_INSTANCE_FOR_THREAD.get();
+
+            if (newInstanceForThread != null) {
+                return newInstanceForThread;
+            }
+        }
+
+        return newInstance;
     }
 
     @FunctionalInterface
@@ -91,17 +421,146 @@ public class ValidationResult {
         boolean isTrue();
     }
 
-    class InvalidField {
-        final String fieldName;
-        final String fieldMessage;
+    private static final class ValidResult extends ValidationResult {
+        private final boolean failingFast;
+
+        private ValidResult(Class<?> classToValidate, boolean failingFast) {
+            super.setClassToValidate(classToValidate);
+            this.failingFast = failingFast;
+        }
+
+        @Override public ValidationResult failFast() {
+            return failingFast ? this : VALID_RESULTS_FAILING_FAST.get(getClassToValidate());
+        }
+
+        @Override ValidationResult invalid(InvalidField invalidField) {
+            ValidationResult validationResult = newValidationResult(getClassToValidate());
+
+            return (failingFast ? validationResult.failFast() : validationResult).invalid(invalidField);
+        }
+    }
+
+    /**
+     * A field of a bean class which is invalid, with the message telling why. The invalid fields are interned, so a
+     * field failing with the same message is one instance shared by every validation result.
+     */
+    public static final class InvalidField implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private static final int MAX_INTERNED_PER_CLASS = 4096;
+        private static final ClassValue<InternedFields> INTERNED_FIELDS = new ClassValue<InternedFields>() {
+            @Override protected InternedFields computeValue(Class<?> type) {
+                return new InternedFields();
+            }
+        };
+
+        private final Class<?> beanClass;
+        private final String fieldName;
+        private final String fieldMessage;
+        private final boolean interned;
 
-        InvalidField(String fieldName, String fieldMessage) {
+        InvalidField(Class<?> beanClass, String fieldName, String fieldMessage) {
+            this(beanClass, fieldName, fieldMessage, false);
+        }
+
+        private InvalidField(Class<?> beanClass, String fieldName, String fieldMessage, boolean interned) {
+            this.beanClass = beanClass;
             this.fieldName = fieldName;
             this.fieldMessage = fieldMessage;
+            this.interned = interned;
+        }
+
+        /**
+         * Gets the interned invalid field. When a bean class has more than {@value #MAX_INTERNED_PER_CLASS} distinct
+         * fields and messages (ex: messages containing values), the rest is not interned.
+         *
+         * @param beanClass the class of the bean
+         * @param fieldName the name of the field
+         * @param fieldMessage the message telling why the field is invalid
+         * @return the interned invalid field
+         */
+        public static InvalidField of(Class<?> beanClass, String fieldName, String fieldMessage) {
+            if (beanClass == null || fieldName == null || fieldMessage == null) {
+                return new InvalidField(beanClass, fieldName, fieldMessage);
+            }
+
+            return INTERNED_FIELDS.get(beanClass).intern(beanClass, fieldName, fieldMessage);
+        }
+
+        boolean isInterned() {
+            return interned;
+        }
+
+        /**
+         * @return the interned invalid field when this field was interned before it was serialized
+         */
+        private Object readResolve() {
+            return interned ? of(beanClass, fieldName, fieldMessage) : this;
+        }
+
+        public Class<?> getBeanClass() {
+            return beanClass;
+        }
+
+        public String getFieldName() {
+            return fieldName;
+        }
+
+        public String getFieldMessage() {
+            return fieldMessage;
+        }
+
+        @Override public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof InvalidField)) {
+                return false;
+            }
+
+            InvalidField invalidField = (InvalidField) o;
+
+            return beanClass == invalidField.beanClass
+                    && Objects.equals(fieldName, invalidField.fieldName)
+                    && Objects.equals(fieldMessage, invalidField.fieldMessage);
+        }
+
+        @Override public int hashCode() {
+            return Objects.hash(beanClass, fieldName, fieldMessage);
         }
 
         @Override public String toString() {
             return "'" + fieldName + "' " + fieldMessage;
         }
+
+        private static final class InternedFields {
+            private final AtomicInteger noOfInterned = new AtomicInteger();
+            private final ConcurrentMap<String, ConcurrentMap<String, InvalidField>> fieldsByName = new ConcurrentHashMap<>();
+
+            private InvalidField intern(Class<?> beanClass, String fieldName, String fieldMessage) {
+                ConcurrentMap<String, InvalidField> fieldsByMessage = fieldsByName.get(fieldName);
+                InvalidField invalidField = fieldsByMessage != null ? fieldsByMessage.get(fieldMessage) : null;
+
+                if (invalidField != null) {
+                    return invalidField;
+                }
+
+                if (noOfInterned.get() >= MAX_INTERNED_PER_CLASS) {
+                    return new InvalidField(beanClass, fieldName, fieldMessage);
+                }
+
+                InvalidField newField = new InvalidField(beanClass, fieldName, fieldMessage, true);
+                InvalidField interned = fieldsByName.computeIfAbsent(fieldName, name -> new ConcurrentHashMap<>())
+                        .putIfAbsent(fieldMessage, newField);
+
+                if (interned != null) {
+                    return interned;
+                }
+
+                noOfInterned.incrementAndGet();
+
+                return newField;
+            }
+        }
     }
 }
@@ -0,0 +1,207 @@
+package com.github.jactor.rises.builder;
+
+import com.github.jactor.rises.builder.ValidationResult.InvalidField;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decodes the frames encoded by a {@link ValidationResultEncoder}, keeping the dictionary of bean classes and invalid
+ * fields defined by the encoder. The bean classes are resolved using a {@link ClassLoader}. A decoder is not thread
+ * safe.
+ */
+public final class ValidationResultDecoder {
+    public static final int DEFAULT_MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
+    private final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+    private final ClassLoader classLoader;
+    private final int maxFrameSize;
+    private final List<Class<?>> classes = new ArrayList<>();
+    private final List<InvalidField> fields = new ArrayList<>();
+    private ByteBuffer frame = ByteBuffer.allocate(4096);
+
+    public ValidationResultDecoder() {
+        this(ValidationResultDecoder.class.getClassLoader());
+    }
+
+    /**
+     * @param classLoader resolving the bean classes
+     */
+    public ValidationResultDecoder(ClassLoader classLoader) {
+        this(classLoader, DEFAULT_MAX_FRAME_SIZE);
+    }
+
+    /**
+     * @param classLoader resolving the bean classes
+     * @param maxFrameSize the maximum length of the records of a frame, a longer frame is rejected as corrupt
+     */
+    public ValidationResultDecoder(ClassLoader classLoader, int maxFrameSize) {
+        this.classLoader = classLoader;
+        this.maxFrameSize = maxFrameSize;
+    }
+
+    /**
+     * Decodes the next frame in the buffer without copying it. When the buffer does not contain a whole frame, nothing
+     * is read from it.
+     *
+     * @param buffer containing frames
+     * @return the {@link ValidationResult}s of the frame, or {@link Optional#empty()} when the frame is not complete
+     * @throws IllegalArgumentException when the length of the frame is negative or longer than the maximum frame size,
+     * or the records of the frame are corrupt, ex: they use an id which is not defined
+     */
+    public Optional<List<ValidationResult>> decode(ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES) {
+            return Optional.empty();
+        }
+
+        if (!isValidLength(buffer.getInt(buffer.position()))) {
+            throw new IllegalArgumentException(invalidLengthMessage(buffer.getInt(buffer.position())));
+        }
+
+        if (buffer.remaining() - Integer.BYTES < buffer.getInt(buffer.position())) {
+            return Optional.empty();
+        }
+
+        int length = buffer.getInt();
+        ByteBuffer records = buffer.slice();
+        ((Buffer) records).limit(length);
+        BinaryFormat.skip(buffer, length);
+
+        return Optional.of(decodeRecords(records));
+    }
+
+    /**
+     * @param channel to read the next frame from
+     * @return the {@link ValidationResult}s of the frame, or {@link Optional#empty()} at the end of the channel
+     * @throws IOException when the frame cannot be read, the channel ends inside a frame, the length of the frame is
+     * negative or longer than the maximum frame size, or the records of the frame are corrupt
+     */
+    public Optional<List<ValidationResult>> read(ReadableByteChannel channel) throws IOException {
+        ((Buffer) header).clear();
+
+        if (!readFully(channel, header, true)) {
+            return Optional.empty();
+        }
+
+        int length = header.getInt(0);
+
+        if (!isValidLength(length)) {
+            throw new IOException(invalidLengthMessage(length));
+        }
+
+        if (frame.capacity() < length) {
+            frame = ByteBuffer.allocate(Math.max(length, frame.capacity() * 2));
+        }
+
+        ((Buffer) frame).clear();
+        ((Buffer) frame).limit(length);
+        readFully(channel, frame, false);
+        ((Buffer) frame).flip();
+
+        try {
+            return Optional.of(decodeRecords(frame));
+        } catch (IllegalArgumentException iae) {
+            throw new IOException(iae.getMessage(), iae);
+        }
+    }
+
+    private boolean isValidLength(int length) {
+        return length >= 0 && length <= maxFrameSize;
+    }
+
+    private String invalidLengthMessage(int length) {
+        return "the frame length " + length + " is not between 0 and " + maxFrameSize + ", the frame is corrupt";
+    }
+
+    private static boolean readFully(ReadableByteChannel channel, ByteBuffer buffer, boolean endOfChannelAllowed) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                if (endOfChannelAllowed && buffer.position() == 0) {
+                    return false;
+                }
+
+                throw new EOFException("the channel ended inside a frame");
+            }
+        }
+
+        return true;
+    }
+
+    private List<ValidationResult> decodeRecords(ByteBuffer records) {
+        List<ValidationResult> validationResults = new ArrayList<>();
+
+        while (records.hasRemaining()) {
+            byte record = records.get();
+
+            switch (record) {
+                case BinaryFormat.DEFINE_CLASS:
+                    define(classes, BinaryFormat.getInt(records), classOf(BinaryFormat.getString(records)));
+                    break;
+                case BinaryFormat.DEFINE_FIELD:
+                    int fieldId = BinaryFormat.getInt(records);
+                    Class<?> beanClass = definitionOf(classes, BinaryFormat.getInt(records), "class");
+                    define(fields, fieldId, InvalidField.of(beanClass, BinaryFormat.getString(records), BinaryFormat.getString(records)));
+                    break;
+                case BinaryFormat.RESULT:
+                    validationResults.add(decodeResult(records));
+                    break;
+                default:
+                    throw new IllegalStateException("unknown record " + record + ", the frames are not decoded in the order they were encoded");
+            }
+        }
+
+        return validationResults;
+    }
+
+    private ValidationResult decodeResult(ByteBuffer records) {
+        ValidationResult validationResult = new ValidationResult();
+        validationResult.setClassToValidate(definitionOf(classes, BinaryFormat.getInt(records), "class"));
+        int noOfFields = BinaryFormat.getInt(records);
+
+        if (noOfFields < 0) {
+            throw new IllegalArgumentException("the number of invalid fields is " + noOfFields + ", the frame is corrupt");
+        }
+
+        for (int i = 0; i < noOfFields; i++) {
+            int fieldId = BinaryFormat.getInt(records);
+
+            validationResult.invalid(fieldId != BinaryFormat.NOT_DEFINED ? definitionOf(fields, fieldId, "invalid field") : new InvalidField(
+                    validationResult.getClassToValidate(), BinaryFormat.getString(records), BinaryFormat.getString(records)
+            ));
+        }
+
+        return validationResult;
+    }
+
+    private Class<?> classOf(String className) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException cnfe) {
+            throw new IllegalStateException("unable to resolve the bean class " + className, cnfe);
+        }
+    }
+
+    private static <D> D definitionOf(List<D> definitions, int id, String definition) {
+        if (id < 0 || id >= definitions.size()) {
+            throw new IllegalArgumentException(
+                    "the " + definition + " " + id + " is not one of the " + definitions.size() + " which are defined, the frame is corrupt"
+            );
+        }
+
+        return definitions.get(id);
+    }
+
+    private static <D> void define(List<D> definitions, int id, D definition) {
+        if (id != definitions.size()) {
+            throw new IllegalStateException("expected definition " + definitions.size() + " but got " + id + ", the frames are not decoded in the order they were encoded");
+        }
+
+        definitions.add(definition);
+    }
+}
@@ -0,0 +1,174 @@
+package com.github.jactor.rises.builder;
+
+import com.github.jactor.rises.builder.ValidationResult.InvalidField;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Encodes batches of {@link ValidationResult}s into binary frames, ex: to send them from a worker to a collector. The
+ * bean classes and interned invalid fields are sent once as dictionary definitions, and are then referred to by their
+ * ids. An encoder is not thread safe and every frame it encodes must be decoded, in order, by one
+ * {@link ValidationResultDecoder}.
+ */
+public final class ValidationResultEncoder {
+    private final Map<Class<?>, Integer> classIds = new HashMap<>();
+    private final Map<Class<?>, Integer> newClassIds = new HashMap<>();
+    private final Map<InvalidField, Integer> fieldIds = new HashMap<>();
+    private final Map<InvalidField, Integer> newFieldIds = new HashMap<>();
+    private ByteBuffer frame;
+
+    public ValidationResultEncoder() {
+        this(4096);
+    }
+
+    /**
+     * @param initialCapacity the initial capacity of the frame buffer, which grows when needed
+     */
+    public ValidationResultEncoder(int initialCapacity) {
+        frame = ByteBuffer.allocate(Math.max(initialCapacity, Integer.BYTES));
+    }
+
+    /**
+     * Encodes a frame. The classes and invalid fields defined by the frame are only kept when the whole frame is encoded,
+     * so a frame which fails to encode does not break the dictionary of the decoder.
+     *
+     * @param validationResults to encode in one frame
+     * @return the frame, which is reused by the next encoding of this encoder
+     */
+    public ByteBuffer encode(Collection<? extends ValidationResult> validationResults) {
+        ((Buffer) frame).clear();
+        BinaryFormat.skip(frame, Integer.BYTES);
+
+        try {
+            for (ValidationResult validationResult : validationResults) {
+                encode(validationResult);
+            }
+
+            classIds.putAll(newClassIds);
+            fieldIds.putAll(newFieldIds);
+        } finally {
+            newClassIds.clear();
+            newFieldIds.clear();
+        }
+
+        frame.putInt(0, frame.position() - Integer.BYTES);
+        ((Buffer) frame).flip();
+
+        return frame;
+    }
+
+    /**
+     * @param validationResults to encode in one frame
+     * @param channel to write the frame to
+     * @throws IOException when the frame cannot be written
+     */
+    public void write(Collection<? extends ValidationResult> validationResults, WritableByteChannel channel) throws IOException {
+        ByteBuffer encoded = encode(validationResults);
+
+        while (encoded.hasRemaining()) {
+            channel.write(encoded);
+        }
+    }
+
+    private void encode(ValidationResult validationResult) {
+        int classId = classIdOf(validationResult.getClassToValidate());
+        int noOfFields = validationResult.getInvalidFields().size();
+        int[] ids = new int[noOfFields];
+
+        for (int i = 0; i < noOfFields; i++) {
+            InvalidField invalidField = validationResult.getInvalidFields().get(i);
+            ids[i] = invalidField.isInterned() ? fieldIdOf(invalidField) : BinaryFormat.NOT_DEFINED;
+        }
+
+        ensureCapacity(1 + 2 * Integer.BYTES + noOfFields * Integer.BYTES);
+        frame.put(BinaryFormat.RESULT).putInt(classId).putInt(noOfFields);
+
+        for (int i = 0; i < noOfFields; i++) {
+            if (ids[i] != BinaryFormat.NOT_DEFINED) {
+                frame.putInt(ids[i]);
+            } else {
+                InvalidField invalidField = validationResult.getInvalidFields().get(i);
+                byte[] fieldName = BinaryFormat.bytesOf(invalidField.getFieldName());
+                byte[] fieldMessage = BinaryFormat.bytesOf(invalidField.getFieldMessage());
+
+                ensureCapacity(Integer.BYTES + sizeOf(fieldName) + sizeOf(fieldMessage));
+                frame.putInt(BinaryFormat.NOT_DEFINED);
+                putString(fieldName);
+                putString(fieldMessage);
+            }
+        }
+    }
+
+    private int classIdOf(Class<?> beanClass) {
+        Integer classId = classIds.get(beanClass);
+
+        if (classId == null) {
+            classId = newClassIds.get(beanClass);
+        }
+
+        if (classId != null) {
+            return classId;
+        }
+
+        byte[] className = BinaryFormat.bytesOf(beanClass.getName());
+        int newId = classIds.size() + newClassIds.size();
+
+        ensureCapacity(1 + Integer.BYTES + sizeOf(className));
+        frame.put(BinaryFormat.DEFINE_CLASS).putInt(newId);
+        putString(className);
+        newClassIds.put(beanClass, newId);
+
+        return newId;
+    }
+
+    private int fieldIdOf(InvalidField invalidField) {
+        Integer fieldId = fieldIds.get(invalidField);
+
+        if (fieldId == null) {
+            fieldId = newFieldIds.get(invalidField);
+        }
+
+        if (fieldId != null) {
+            return fieldId;
+        }
+
+        int classId = classIdOf(invalidField.getBeanClass());
+        byte[] fieldName = BinaryFormat.bytesOf(invalidField.getFieldName());
+        byte[] fieldMessage = BinaryFormat.bytesOf(invalidField.getFieldMessage());
+        int newId = fieldIds.size() + newFieldIds.size();
+
+        ensureCapacity(1 + 2 * Integer.BYTES + sizeOf(fieldName) + sizeOf(fieldMessage));
+        frame.put(BinaryFormat.DEFINE_FIELD).putInt(newId).putInt(classId);
+        putString(fieldName);
+        putString(fieldMessage);
+        newFieldIds.put(invalidField, newId);
+
+        return newId;
+    }
+
+    private void putString(byte[] string) {
+        if (string == null) {
+            frame.putInt(BinaryFormat.NULL);
+        } else {
+            frame.putInt(string.length).put(string);
+        }
+    }
+
+    private void ensureCapacity(int noOfBytes) {
+        if (frame.remaining() < noOfBytes) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(frame.capacity() * 2, frame.position() + noOfBytes));
+            ((Buffer) frame).flip();
+            frame = grown.put(frame);
+        }
+    }
+
+    private static int sizeOf(byte[] string) {
+        return Integer.BYTES + (string != null ? string.length : 0);
+    }
+}
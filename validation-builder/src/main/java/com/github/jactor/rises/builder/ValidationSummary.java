@@ -0,0 +1,59 @@
+package com.github.jactor.rises.builder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread safe summary of a stream validated by {@link ValidInstance#validateAll(java.util.stream.Stream,
+ * java.util.function.BiConsumer, ValidationSummary)}, counting the beans and the invalid fields without holding any of
+ * the beans
+ */
+public final class ValidationSummary {
+    private final LongAdder invalidBeans = new LongAdder();
+    private final LongAdder validBeans = new LongAdder();
+    private final Map<String, LongAdder> invalidFields = new ConcurrentHashMap<>();
+
+    void valid() {
+        validBeans.increment();
+    }
+
+    void invalid(ValidationResult validationResult) {
+        invalidBeans.increment();
+
+        for (ValidationResult.InvalidField invalidField : validationResult.getInvalidFields()) {
+            LongAdder fieldCount = invalidFields.get(invalidField.getFieldName());
+
+            if (fieldCount == null) {
+                fieldCount = invalidFields.computeIfAbsent(invalidField.getFieldName(), fieldName -> new LongAdder());
+            }
+
+            fieldCount.increment();
+        }
+    }
+
+    public long getValidCount() {
+        return validBeans.sum();
+    }
+
+    public long getInvalidCount() {
+        return invalidBeans.sum();
+    }
+
+    /**
+     * @return a snapshot of the number of times every field was invalid, sorted by the name of the field
+     */
+    public Map<String, Long> getInvalidFieldCounts() {
+        Map<String, Long> invalidFieldCounts = new TreeMap<>();
+        invalidFields.forEach((fieldName, fieldCount) -> invalidFieldCounts.put(fieldName, fieldCount.sum()));
+
+        return invalidFieldCounts;
+    }
+
+    @Override public String toString() {
+        return String.format("%s(valid: %d, invalid: %d, invalid fields: %s)",
+                ValidationSummary.class.getSimpleName(), getValidCount(), getInvalidCount(), getInvalidFieldCounts()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.jactor.rises.builder.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated boolean field or method cannot be true - see
+ * {@link com.github.jactor.rises.builder.ValidationResult#notTrue(String, boolean, String)}
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface NotTrue {
+    /**
+     * @return the message of the invalid field
+     */
+    String value();
+
+    /**
+     * @return the name of the invalid field, the name of the annotated field or getter when not given
+     */
+    String field() default "";
+}
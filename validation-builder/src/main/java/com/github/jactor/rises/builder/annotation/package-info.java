@@ -0,0 +1,7 @@
+/**
+ * Constraints which are read by the annotation processor in the validation-builder-processor module. The processor
+ * generates a {@link com.github.jactor.rises.builder.ValidInstance} named after the bean, ex: {@code NamedEraValidInstance}
+ * for a bean named {@code NamedEra}, containing the checks of the annotated fields and methods in declaration order.
+ * The constraints are kept in the class files, so the constraints of a superclass from a jar are checked as well.
+ */
+package com.github.jactor.rises.builder.annotation;
@@ -0,0 +1,123 @@
+package com.github.jactor.rises.builder.metrics;
+
+import com.github.jactor.rises.builder.ValidationResult.InvalidField;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters, and the validation and build latencies, of a bean class
+ */
+public final class BeanMetrics implements BeanMetricsMXBean {
+    private final Class<?> beanClass;
+    private final LatencyHistogram buildLatencies = new LatencyHistogram();
+    private final LatencyHistogram validationLatencies = new LatencyHistogram();
+    private final LongAdder builds = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder invalidBuilds = new LongAdder();
+    private final LongAdder validations = new LongAdder();
+    private final Map<String, LongAdder> fieldViolations = new ConcurrentHashMap<>();
+
+    BeanMetrics(Class<?> beanClass) {
+        this.beanClass = beanClass;
+    }
+
+    void validationStarted() {
+        validations.increment();
+    }
+
+    void validationCompleted(List<InvalidField> invalidFields) {
+        if (!invalidFields.isEmpty()) {
+            failures.increment();
+
+            for (InvalidField invalidField : invalidFields) {
+                violationsOf(invalidField.getFieldName()).increment();
+            }
+        }
+    }
+
+    void validated(long nanos) {
+        validationLatencies.record(nanos);
+    }
+
+    void built(long nanos, boolean valid) {
+        builds.increment();
+        buildLatencies.record(nanos);
+
+        if (!valid) {
+            invalidBuilds.increment();
+        }
+    }
+
+    private LongAdder violationsOf(String fieldName) {
+        LongAdder violations = fieldViolations.get(fieldName);
+
+        return violations != null ? violations : fieldViolations.computeIfAbsent(fieldName, name -> new LongAdder());
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    public LatencyHistogram getBuildLatencies() {
+        return buildLatencies;
+    }
+
+    public LatencyHistogram getValidationLatencies() {
+        return validationLatencies;
+    }
+
+    @Override public String getBeanClassName() {
+        return beanClass.getName();
+    }
+
+    @Override public long getValidations() {
+        return validations.sum();
+    }
+
+    @Override public long getFailures() {
+        return failures.sum();
+    }
+
+    @Override public long getBuilds() {
+        return builds.sum();
+    }
+
+    @Override public long getInvalidBuilds() {
+        return invalidBuilds.sum();
+    }
+
+    @Override public Map<String, Long> getFieldViolations() {
+        Map<String, Long> violations = new TreeMap<>();
+        fieldViolations.forEach((fieldName, noOfViolations) -> violations.put(fieldName, noOfViolations.sum()));
+
+        return violations;
+    }
+
+    @Override public double getMeanValidationNanos() {
+        return validationLatencies.getMean();
+    }
+
+    @Override public long getMaxValidationNanos() {
+        return validationLatencies.getMax();
+    }
+
+    @Override public long getValidationNanosPercentile(double percentile) {
+        return validationLatencies.getPercentile(percentile);
+    }
+
+    @Override public double getMeanBuildNanos() {
+        return buildLatencies.getMean();
+    }
+
+    @Override public long getMaxBuildNanos() {
+        return buildLatencies.getMax();
+    }
+
+    @Override public long getBuildNanosPercentile(double percentile) {
+        return buildLatencies.getPercentile(percentile);
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.jactor.rises.builder.metrics;
+
+import java.util.Map;
+
+/**
+ * The metrics of a bean class as exported by the {@link JmxExporter}
+ */
+public interface BeanMetricsMXBean {
+
+    String getBeanClassName();
+
+    long getValidations();
+
+    long getFailures();
+
+    long getBuilds();
+
+    long getInvalidBuilds();
+
+    Map<String, Long> getFieldViolations();
+
+    double getMeanValidationNanos();
+
+    long getMaxValidationNanos();
+
+    long getValidationNanosPercentile(double percentile);
+
+    double getMeanBuildNanos();
+
+    long getMaxBuildNanos();
+
+    long getBuildNanosPercentile(double percentile);
+}
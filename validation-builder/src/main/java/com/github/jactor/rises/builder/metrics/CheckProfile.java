@@ -0,0 +1,48 @@
+package com.github.jactor.rises.builder.metrics;
+
+/**
+ * The latencies of one check of a field in a bean class, as recorded by a {@link ValidationProfiler}
+ */
+public final class CheckProfile {
+    private final Class<?> beanClass;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final String check;
+    private final String fieldName;
+
+    CheckProfile(Class<?> beanClass, String fieldName, String check) {
+        this.beanClass = beanClass;
+        this.fieldName = fieldName;
+        this.check = check;
+    }
+
+    void record(long nanos) {
+        latencies.record(nanos);
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * @return the name of the check, ex: notNull
+     */
+    public String getCheck() {
+        return check;
+    }
+
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    public long getTotalNanos() {
+        return latencies.getSum();
+    }
+
+    @Override public String toString() {
+        return beanClass.getSimpleName() + '.' + fieldName + ' ' + check;
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.jactor.rises.builder.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Registers the {@link BeanMetrics} of every bean class as an MXBean named
+ * {@code com.github.jactor.rises.builder:type=ValidationMetrics,bean=<name of the bean class>}. The metrics are
+ * registered when a bean class is validated for the first time, so a failing registration is logged and does not fail
+ * the validation.
+ */
+public class JmxExporter implements Consumer<BeanMetrics>, AutoCloseable {
+    public static final String DOMAIN = "com.github.jactor.rises.builder";
+
+    private static final Logger LOGGER = Logger.getLogger(JmxExporter.class.getName());
+
+    private final MBeanServer mBeanServer;
+    private final Set<ObjectName> registeredNames = ConcurrentHashMap.newKeySet();
+
+    public JmxExporter() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public JmxExporter(MBeanServer mBeanServer) {
+        this.mBeanServer = mBeanServer;
+    }
+
+    @Override public void accept(BeanMetrics beanMetrics) {
+        try {
+            ObjectName objectName = objectNameOf(beanMetrics.getBeanClass());
+
+            mBeanServer.registerMBean(beanMetrics, objectName);
+            registeredNames.add(objectName);
+        } catch (JMException jme) {
+            LOGGER.log(Level.WARNING, "Unable to register the metrics of " + beanMetrics.getBeanClassName(), jme);
+        }
+    }
+
+    /**
+     * Unregisters every MXBean registered by this exporter
+     */
+    @Override public void close() {
+        for (ObjectName objectName : registeredNames) {
+            try {
+                mBeanServer.unregisterMBean(objectName);
+            } catch (JMException jme) {
+                LOGGER.log(Level.WARNING, "Unable to unregister " + objectName, jme);
+            }
+        }
+
+        registeredNames.clear();
+    }
+
+    public static ObjectName objectNameOf(Class<?> beanClass) throws JMException {
+        return new ObjectName(DOMAIN + ":type=ValidationMetrics,bean=" + ObjectName.quote(beanClass.getName()));
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.jactor.rises.builder.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies in nanoseconds with one bucket for every power of two. Every bucket is a {@link LongAdder},
+ * so recording does not contend between threads.
+ */
+public final class LatencyHistogram {
+    private static final int NO_OF_BUCKETS = Long.SIZE;
+
+    private final LongAdder[] buckets = new LongAdder[NO_OF_BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    LatencyHistogram() {
+        for (int i = 0; i < NO_OF_BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long nanos) {
+        long latency = Math.max(0, nanos);
+
+        buckets[bucketOf(latency)].increment();
+        count.increment();
+        sum.add(latency);
+        max.accumulate(latency);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getMean() {
+        long noOfLatencies = count.sum();
+
+        return noOfLatencies == 0 ? 0 : (double) sum.sum() / noOfLatencies;
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the upper bound of the bucket containing the percentile, 0 when nothing is recorded
+     */
+    public long getPercentile(double percentile) {
+        long noOfLatencies = count.sum();
+        long rank = (long) Math.ceil(noOfLatencies * Math.min(100, Math.max(0, percentile)) / 100);
+        long counted = 0;
+
+        for (int i = 0; i < NO_OF_BUCKETS && noOfLatencies > 0; i++) {
+            counted += buckets[i].sum();
+
+            if (counted >= Math.max(1, rank)) {
+                return Math.min(upperBoundOf(i), getMax());
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * @return the number of latencies by the upper bound of their bucket, only containing buckets with latencies
+     */
+    public Map<Long, Long> getBuckets() {
+        Map<Long, Long> nonEmptyBuckets = new LinkedHashMap<>();
+
+        for (int i = 0; i < NO_OF_BUCKETS; i++) {
+            long noOfLatencies = buckets[i].sum();
+
+            if (noOfLatencies > 0) {
+                nonEmptyBuckets.put(upperBoundOf(i), noOfLatencies);
+            }
+        }
+
+        return nonEmptyBuckets;
+    }
+
+    private static int bucketOf(long latency) {
+        return Math.min(NO_OF_BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(latency));
+    }
+
+    private static long upperBoundOf(int bucket) {
+        return bucket == NO_OF_BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.jactor.rises.builder.metrics;
+
+import com.github.jactor.rises.builder.ValidationResult;
+
+import java.util.regex.Pattern;
+
+/**
+ * A {@link ValidationResult} timing every check for a {@link ValidationProfiler}. The time of a check starts when the
+ * previous check (or the validation) ends, so it includes evaluating the arguments of the check, ex: invoking getters.
+ */
+class ProfilingValidationResult extends ValidationResult {
+    private final ValidationProfiler validationProfiler;
+    private long checked = System.nanoTime();
+
+    private ProfilingValidationResult(ValidationProfiler validationProfiler) {
+        this.validationProfiler = validationProfiler;
+    }
+
+    /**
+     * @return a task restoring the hook which was used by all threads before the profiler was installed
+     */
+    static Runnable install(ValidationProfiler validationProfiler) {
+        NewInstance profiling = () -> new ProfilingValidationResult(validationProfiler);
+        NewInstance previousNewInstance = ValidationResult.setNewInstance(profiling);
+
+        return () -> ValidationResult.restoreNewInstance(profiling, previousNewInstance);
+    }
+
+    /**
+     * @return a task restoring the hook which was used by the current thread before the profiler was installed
+     */
+    static Runnable installForCurrentThread(ValidationProfiler validationProfiler) {
+        NewInstance profiling = () -> new ProfilingValidationResult(validationProfiler);
+        NewInstance previousNewInstance = ValidationResult.setNewInstanceForCurrentThread(profiling);
+
+        return () -> ValidationResult.restoreNewInstanceForCurrentThread(profiling, previousNewInstance);
+    }
+
+    @Override public ValidationResult notNull(String fieldName, Object fieldValue, String fieldMessage) {
+        super.notNull(fieldName, fieldValue, fieldMessage);
+
+        return profiled("notNull", fieldName);
+    }
+
+    @Override public ValidationResult notEmpty(String fieldName, String fieldValue, String fieldMessage) {
+        super.notEmpty(fieldName, fieldValue, fieldMessage);
+
+        return profiled("notEmpty", fieldName);
+    }
+
+    @Override public ValidationResult matches(String fieldName, CharSequence fieldValue, Pattern pattern, String fieldMessage) {
+        super.matches(fieldName, fieldValue, pattern, fieldMessage);
+
+        return profiled("matches", fieldName);
+    }
+
+    @Override public ValidationResult matches(String fieldName, CharSequence fieldValue, String regex, String fieldMessage) {
+        super.matches(fieldName, fieldValue, regex, fieldMessage);
+
+        return profiled("matches", fieldName);
+    }
+
+    @Override public ValidationResult maxLength(String fieldName, CharSequence fieldValue, int maxLength, String fieldMessage) {
+        super.maxLength(fieldName, fieldValue, maxLength, fieldMessage);
+
+        return profiled("maxLength", fieldName);
+    }
+
+    @Override public ValidationResult emailAddress(String fieldName, CharSequence fieldValue, String fieldMessage) {
+        super.emailAddress(fieldName, fieldValue, fieldMessage);
+
+        return profiled("emailAddress", fieldName);
+    }
+
+    @Override public ValidationResult isoLocalDate(String fieldName, CharSequence fieldValue, String fieldMessage) {
+        super.isoLocalDate(fieldName, fieldValue, fieldMessage);
+
+        return profiled("isoLocalDate", fieldName);
+    }
+
+    @Override public ValidationResult notTrue(String fieldName, FieldCondition fieldCondition, String fieldMessage) {
+        super.notTrue(fieldName, fieldCondition, fieldMessage);
+
+        return profiled("notTrue", fieldName);
+    }
+
+    @Override public ValidationResult notTrue(String fieldName, boolean condition, String fieldMessage) {
+        super.notTrue(fieldName, condition, fieldMessage);
+
+        return profiled("notTrue", fieldName);
+    }
+
+    @Override public ValidationResult notFalse(String fieldName, FieldCondition fieldCondition, String fieldMessage) {
+        super.notFalse(fieldName, fieldCondition, fieldMessage);
+
+        return profiled("notFalse", fieldName);
+    }
+
+    @Override public ValidationResult notFalse(String fieldName, boolean condition, String fieldMessage) {
+        super.notFalse(fieldName, condition, fieldMessage);
+
+        return profiled("notFalse", fieldName);
+    }
+
+    @Override public ValidationResult positive(String fieldName, long fieldValue, String fieldMessage) {
+        super.positive(fieldName, fieldValue, fieldMessage);
+
+        return profiled("positive", fieldName);
+    }
+
+    @Override public ValidationResult inRange(String fieldName, int fieldValue, int min, int max, String fieldMessage) {
+        super.inRange(fieldName, fieldValue, min, max, fieldMessage);
+
+        return profiled("inRange", fieldName);
+    }
+
+    @Override public ValidationResult inRange(String fieldName, long fieldValue, long min, long max, String fieldMessage) {
+        super.inRange(fieldName, fieldValue, min, max, fieldMessage);
+
+        return profiled("inRange", fieldName);
+    }
+
+    @Override public ValidationResult notNaN(String fieldName, double fieldValue, String fieldMessage) {
+        super.notNaN(fieldName, fieldValue, fieldMessage);
+
+        return profiled("notNaN", fieldName);
+    }
+
+    private ValidationResult profiled(String check, String fieldName) {
+        validationProfiler.record(getClassToValidate(), fieldName, check, System.nanoTime() - checked);
+        checked = System.nanoTime();
+
+        return this;
+    }
+}
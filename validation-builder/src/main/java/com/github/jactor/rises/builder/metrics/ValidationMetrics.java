@@ -0,0 +1,84 @@
+package com.github.jactor.rises.builder.metrics;
+
+import com.github.jactor.rises.builder.ValidationInstrumentation;
+import com.github.jactor.rises.builder.ValidationResult.InvalidField;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link ValidationInstrumentation} counting validations, failures, builds and field violations, and recording the
+ * validation and build latencies of every bean class. It is enabled with {@link ValidationInstrumentation#install(ValidationInstrumentation)},
+ * ex: {@code ValidationInstrumentation.install(new ValidationMetrics(new JmxExporter()))}
+ */
+public class ValidationMetrics implements ValidationInstrumentation {
+    private static final Logger LOGGER = Logger.getLogger(ValidationMetrics.class.getName());
+
+    private final Consumer<BeanMetrics> newBeanMetricsConsumer;
+    private final Map<Class<?>, BeanMetrics> beanMetricsByClass = new ConcurrentHashMap<>();
+    private final ClassValue<BeanMetrics> beanMetricsOfClass = new ClassValue<BeanMetrics>() {
+        @Override protected BeanMetrics computeValue(Class<?> type) {
+            return beanMetricsByClass.computeIfAbsent(type, ValidationMetrics.this::newBeanMetrics);
+        }
+    };
+
+    public ValidationMetrics() {
+        this(beanMetrics -> {
+        });
+    }
+
+    /**
+     * @param newBeanMetricsConsumer receives the metrics of every bean class when it is validated for the first time,
+     *                               ex: a {@link JmxExporter}, where a failure is logged and does not fail the validation
+     */
+    public ValidationMetrics(Consumer<BeanMetrics> newBeanMetricsConsumer) {
+        this.newBeanMetricsConsumer = newBeanMetricsConsumer;
+    }
+
+    private BeanMetrics newBeanMetrics(Class<?> beanClass) {
+        BeanMetrics beanMetrics = new BeanMetrics(beanClass);
+
+        try {
+            newBeanMetricsConsumer.accept(beanMetrics);
+        } catch (RuntimeException re) {
+            LOGGER.log(Level.WARNING, "Unable to give away the metrics of " + beanClass.getName(), re);
+        }
+
+        return beanMetrics;
+    }
+
+    @Override public void validationStarted(Class<?> beanClass) {
+        beanMetricsOfClass.get(beanClass).validationStarted();
+    }
+
+    @Override public void validationCompleted(Class<?> beanClass, List<InvalidField> invalidFields) {
+        beanMetricsOfClass.get(beanClass).validationCompleted(invalidFields);
+    }
+
+    @Override public void validated(Class<?> beanClass, long nanos) {
+        beanMetricsOfClass.get(beanClass).validated(nanos);
+    }
+
+    @Override public void built(Class<?> beanClass, long nanos, boolean valid) {
+        beanMetricsOfClass.get(beanClass).built(nanos, valid);
+    }
+
+    /**
+     * @param beanClass the class of the bean
+     * @return an {@link Optional} with the metrics of the bean class, {@link Optional#empty()} when it is not validated
+     */
+    public Optional<BeanMetrics> getBeanMetrics(Class<?> beanClass) {
+        return Optional.ofNullable(beanMetricsByClass.get(beanClass));
+    }
+
+    public Collection<BeanMetrics> getBeanMetrics() {
+        return new ArrayList<>(beanMetricsByClass.values());
+    }
+}
@@ -0,0 +1,148 @@
+package com.github.jactor.rises.builder.metrics;
+
+import com.github.jactor.rises.builder.ValidationResult;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Times every check done by a {@link ValidationResult}, ex: {@code notNull} or {@code notTrue}, by bean class and field,
+ * to tell which checks make a validation slow. The profiler replaces the hook creating new validation results while it
+ * is started, so the validations are not slowed down when it is stopped. The checks of a {@code RuleSet} are not timed.
+ */
+public final class ValidationProfiler {
+    private static final String NO_FIELD_NAME = "";
+
+    private final Map<Class<?>, Map<String, Map<String, CheckProfile>>> checkProfilesByClass = new ConcurrentHashMap<>();
+    private final ClassValue<Map<String, Map<String, CheckProfile>>> checkProfilesOfClass = new ClassValue<Map<String, Map<String, CheckProfile>>>() {
+        @Override protected Map<String, Map<String, CheckProfile>> computeValue(Class<?> type) {
+            return checkProfilesByClass.computeIfAbsent(type, beanClass -> new ConcurrentHashMap<>());
+        }
+    };
+    private final AtomicReference<Runnable> uninstall = new AtomicReference<>();
+    private final ThreadLocal<Runnable> uninstallForThread = new ThreadLocal<>();
+
+    /**
+     * Profiles the validations done by all threads until {@link #stop()}
+     *
+     * @return this profiler
+     * @throws IllegalStateException when the profiler is already started
+     */
+    public synchronized ValidationProfiler start() {
+        if (uninstall.get() != null) {
+            throw new IllegalStateException("The profiler is already started");
+        }
+
+        uninstall.set(ProfilingValidationResult.install(this));
+
+        return this;
+    }
+
+    /**
+     * Profiles the validations done by the current thread until {@link #stopForCurrentThread()}
+     *
+     * @return this profiler
+     * @throws IllegalStateException when the profiler is already started by the current thread
+     */
+    public ValidationProfiler startForCurrentThread() {
+        if (uninstallForThread.get() != null) {
+            throw new IllegalStateException("The profiler is already started by the current thread");
+        }
+
+        uninstallForThread.set(ProfilingValidationResult.installForCurrentThread(this));
+
+        return this;
+    }
+
+    /**
+     * Stops profiling the validations done by all threads, and restores the hook creating new validation results which
+     * was used when the profiler was started
+     *
+     * @throws IllegalStateException when another hook was set for all threads after the profiler was started, and is
+     * not restored
+     */
+    public synchronized void stop() {
+        Runnable uninstallForAllThreads = uninstall.get();
+
+        if (uninstallForAllThreads != null) {
+            uninstallForAllThreads.run();
+            uninstall.set(null);
+        }
+    }
+
+    /**
+     * Stops profiling the validations done by the current thread, and restores the hook creating new validation results
+     * which was used by the thread when the profiler was started
+     *
+     * @throws IllegalStateException when another hook was set on the current thread after the profiler was started, and
+     * is not restored
+     */
+    public void stopForCurrentThread() {
+        Runnable uninstall = uninstallForThread.get();
+
+        if (uninstall != null) {
+            uninstall.run();
+            uninstallForThread.remove();
+        }
+    }
+
+    void record(Class<?> beanClass, String fieldName, String check, long nanos) {
+        checkProfileOf(checksOf(beanClass, fieldName), beanClass, fieldName, check).record(nanos);
+    }
+
+    /**
+     * @return the profiles of the checks of a field, where a check without a field name is profiled as the checks of a
+     * field named {@value #NO_FIELD_NAME}
+     */
+    private Map<String, CheckProfile> checksOf(Class<?> beanClass, String fieldName) {
+        Map<String, Map<String, CheckProfile>> fields = checkProfilesOfClass.get(beanClass);
+        String field = fieldName != null ? fieldName : NO_FIELD_NAME;
+        Map<String, CheckProfile> checks = fields.get(field);
+
+        return checks != null ? checks : fields.computeIfAbsent(field, name -> new ConcurrentHashMap<>());
+    }
+
+    private static CheckProfile checkProfileOf(Map<String, CheckProfile> checks, Class<?> beanClass, String fieldName, String check) {
+        CheckProfile checkProfile = checks.get(check);
+
+        return checkProfile != null ? checkProfile : checks.computeIfAbsent(check, name -> new CheckProfile(beanClass, fieldName, check));
+    }
+
+    /**
+     * @return the profiles of every check, the one with most time spent first
+     */
+    public List<CheckProfile> getCheckProfiles() {
+        List<CheckProfile> checkProfiles = new ArrayList<>();
+        checkProfilesByClass.values().forEach(fields -> fields.values().forEach(checks -> checkProfiles.addAll(checks.values())));
+        checkProfiles.sort(Comparator.comparingLong(CheckProfile::getTotalNanos).reversed());
+
+        return checkProfiles;
+    }
+
+    /**
+     * @return a report of the checks, the one with most time spent first
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder(String.format("%4s %12s %10s %10s %10s %10s  %s%n", "rank", "total ns", "count", "mean ns", "p99 ns", "max ns", "check"));
+        int rank = 0;
+
+        for (CheckProfile checkProfile : getCheckProfiles()) {
+            LatencyHistogram latencies = checkProfile.getLatencies();
+
+            report.append(String.format(
+                    "%4d %12d %10d %10.0f %10d %10d  %s%n", ++rank, checkProfile.getTotalNanos(), latencies.getCount(), latencies.getMean(),
+                    latencies.getPercentile(99), latencies.getMax(), checkProfile
+            ));
+        }
+
+        return report.toString();
+    }
+
+    @Override public String toString() {
+        return getReport();
+    }
+}
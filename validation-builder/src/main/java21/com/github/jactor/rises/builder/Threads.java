@@ -0,0 +1,17 @@
+package com.github.jactor.rises.builder;
+
+/**
+ * The threads used by the builders. This is the implementation for JDK 21 or later.
+ */
+final class Threads {
+
+    private Threads() {
+    }
+
+    /**
+     * @return if the current thread is a virtual thread
+     */
+    static boolean isVirtual() {
+        return Thread.currentThread().isVirtual();
+    }
+}
@@ -3,11 +3,20 @@ package com.github.jactor.rises.builder;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.github.jactor.rises.builder.ValidationResult.validate;
+import static com.github.jactor.rises.builder.ValidationResult.validateLazily;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 @DisplayName("AbstractBuilder")
 class AbstractBuilderTest {
@@ -100,6 +109,177 @@ class AbstractBuilderTest {
                 .withMessage("Bean has invalid fields:\n- 'fieldName' validation cannot be false");
     }
 
+    @DisplayName("should try to build a valid bean")
+    @Test void shouldTryToBuildValidBean() {
+        BuildResult<Number> buildResult = new NumberBuilder(1).tryBuild();
+
+        assertAll(
+                () -> assertThat(buildResult.isValid()).as("valid").isTrue(),
+                () -> assertThat(buildResult.get()).as("bean").isEqualTo(1),
+                () -> assertThat(buildResult.getValidationResult()).as("validation result").isEmpty()
+        );
+    }
+
+    @DisplayName("should try to build an invalid bean without throwing an exception")
+    @Test void shouldTryToBuildInvalidBeanWithoutThrowingException() {
+        BuildResult<Number> buildResult = new NumberBuilder(-1).tryBuild();
+
+        assertAll(
+                () -> assertThat(buildResult.isValid()).as("valid").isFalse(),
+                () -> assertThat(buildResult.getValidationResult()).as("validation result").isPresent(),
+                () -> assertThatIllegalStateException().as("bean").isThrownBy(buildResult::get)
+                        .withMessage("Number has invalid fields:\n- 'number' must be positive")
+        );
+    }
+
+    @DisplayName("should apply the function matching the outcome when trying to build a bean")
+    @Test void shouldApplyFunctionMatchingTheOutcomeWhenTryingToBuildBean() {
+        assertAll(
+                () -> assertThat(new NumberBuilder(1).tryBuild(Number::toString, invalid -> "invalid")).as("valid").isEqualTo("1"),
+                () -> assertThat(new NumberBuilder(0).tryBuild(Number::toString, invalid -> "invalid")).as("invalid").isEqualTo("invalid")
+        );
+    }
+
+    @DisplayName("should build a valid bean asynchronously")
+    @Test void shouldBuildValidBeanAsynchronously() {
+        CompletableFuture<Number> futureBean = new NumberBuilder(1).buildAsync(ForkJoinPool.commonPool()).toCompletableFuture();
+
+        assertThat(futureBean.join()).isEqualTo(1);
+    }
+
+    @DisplayName("should complete the asynchronous build exceptionally when the bean is not valid")
+    @Test void shouldCompleteAsynchronousBuildExceptionallyWhenBeanIsNotValid() {
+        CompletableFuture<Number> futureBean = new NumberBuilder(-1).buildAsync().toCompletableFuture();
+
+        assertAll(
+                () -> assertThat(futureBean).as("completed exceptionally").isCompletedExceptionally(),
+                () -> assertThat(futureBean.handle((bean, throwable) -> throwable)
+                        .join()).as("cause").isInstanceOf(InvalidBeanException.class)
+                        .hasMessage("Number has invalid fields:\n- 'number' must be positive")
+        );
+    }
+
+    @DisplayName("should only evaluate the rules depending on the changed fields when the builder is built again")
+    @Test void shouldOnlyEvaluateRulesDependingOnChangedFieldsWhenBuiltAgain() {
+        AtomicInteger evaluations = new AtomicInteger();
+        PairBuilder pairBuilder = new PairBuilder(RuleSet.declare(Number[].class)
+                .notTrue("first", pair -> evaluations.incrementAndGet() > 0 && pair[0].intValue() < 0, "cannot be negative").dependsOn("first")
+                .notTrue("second", pair -> evaluations.incrementAndGet() > 0 && pair[1].intValue() < 0, "cannot be negative").dependsOn("second")
+                .build()
+        );
+
+        pairBuilder.withFirst(1).withSecond(2).build();
+        pairBuilder.withSecond(-2);
+
+        assertAll(
+                () -> assertThatIllegalStateException().isThrownBy(pairBuilder::build)
+                        .withMessage("Number[] has invalid fields:\n- 'second' cannot be negative"),
+                () -> assertThat(evaluations).as("evaluations").hasValue(3)
+        );
+    }
+
+    @DisplayName("should clear the builder and evaluate every rule again when the builder is reset")
+    @Test void shouldClearBuilderAndEvaluateEveryRuleAgainWhenReset() {
+        AtomicInteger evaluations = new AtomicInteger();
+        PairBuilder pairBuilder = new PairBuilder(RuleSet.declare(Number[].class)
+                .notTrue("first", pair -> evaluations.incrementAndGet() > 0 && pair[0].intValue() < 0, "cannot be negative").dependsOn("first")
+                .notTrue("second", pair -> evaluations.incrementAndGet() > 0 && pair[1].intValue() < 0, "cannot be negative").dependsOn("second")
+                .build()
+        );
+
+        pairBuilder.withFirst(-1).withSecond(-2);
+        assertThatIllegalStateException().isThrownBy(pairBuilder::build);
+        pairBuilder.reset();
+
+        assertAll(
+                () -> assertThat(pairBuilder.build()).as("bean").containsExactly(0, 0),
+                () -> assertThat(evaluations).as("evaluations").hasValue(4)
+        );
+    }
+
+    @DisplayName("should build all the beans in a batch and report the invalid beans by their index")
+    @Test void shouldBuildAllBeansInBatchAndReportInvalidBeansByIndex() {
+        BatchResult<Number> batchResult = AbstractBuilder.buildAll(Arrays.asList(
+                new NumberBuilder(1), new NumberBuilder(-2), new NumberBuilder(3), new NumberBuilder(-4)
+        ));
+
+        assertAll(
+                () -> assertThat(batchResult.getValidInstances()).as("valid instances").containsExactly(1, 3),
+                () -> assertThat(batchResult.getInvalidIndexes()).as("invalid indexes").containsExactly(1, 3),
+                () -> assertThat(batchResult.getValidationResult(0)).as("result of valid bean").isEmpty(),
+                () -> assertThat(batchResult.getValidationResult(3)).as("result of invalid bean").isPresent()
+        );
+    }
+
+    @DisplayName("should build all the beans of a stream of builders in a batch")
+    @Test void shouldBuildAllBeansOfStreamOfBuildersInBatch() {
+        BatchResult<Number> batchResult = AbstractBuilder.buildAll(IntStream.of(1, -2, 3, -4).mapToObj(NumberBuilder::new));
+
+        assertAll(
+                () -> assertThat(batchResult.getValidInstances()).as("valid instances").containsExactly(1, 3),
+                () -> assertThat(batchResult.getInvalidIndexes()).as("invalid indexes").containsExactly(1, 3)
+        );
+    }
+
+    @DisplayName("should build all the beans in a batch in parallel and keep the order of the batch")
+    @Test void shouldBuildAllBeansInBatchInParallelAndKeepTheOrder() {
+        List<NumberBuilder> builders = IntStream.rangeClosed(-500, 500).mapToObj(NumberBuilder::new).collect(Collectors.toList());
+
+        BatchResult<Number> batchResult = AbstractBuilder.buildAll(builders, ForkJoinPool.commonPool());
+
+        assertAll(
+                () -> assertThat(batchResult.getValidInstances()).as("valid instances")
+                        .isEqualTo(IntStream.rangeClosed(1, 500).boxed().collect(Collectors.toList())),
+                () -> assertThat(batchResult.getInvalidIndexes()).as("invalid indexes").isEqualTo(IntStream.rangeClosed(0, 500).toArray()),
+                () -> assertThat(batchResult.hasInvalidInstances()).as("has invalid instances").isTrue()
+        );
+    }
+
     private class Bean {
     }
+
+    private static class PairBuilder extends AbstractBuilder<Number[]> {
+        private Number first;
+        private Number second;
+
+        private PairBuilder(RuleSet<Number[]> ruleSet) {
+            super(ruleSet);
+        }
+
+        private PairBuilder withFirst(Number first) {
+            this.first = first;
+            fieldChanged("first");
+
+            return this;
+        }
+
+        private PairBuilder withSecond(Number second) {
+            this.second = second;
+            fieldChanged("second");
+
+            return this;
+        }
+
+        @Override protected Number[] buildBean() {
+            return new Number[]{first, second};
+        }
+
+        @Override protected void clear() {
+            first = 0;
+            second = 0;
+        }
+    }
+
+    private static class NumberBuilder extends AbstractBuilder<Number> {
+        private final int number;
+
+        private NumberBuilder(int number) {
+            super(aNumber -> validateLazily(Number.class).positive("number", aNumber.intValue(), "must be positive").returnResult());
+            this.number = number;
+        }
+
+        @Override protected Number buildBean() {
+            return number;
+        }
+    }
 }
@@ -0,0 +1,67 @@
+package com.github.jactor.rises.builder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("BuilderPool")
+class BuilderPoolTest {
+
+    private final AtomicInteger noOfBuilders = new AtomicInteger();
+    private final BuilderPool<Integer, NumberBuilder> builderPool = new BuilderPool<>(() -> {
+        noOfBuilders.incrementAndGet();
+        return new NumberBuilder();
+    }, 2);
+
+    @DisplayName("should reuse a reset builder on the same thread")
+    @Test void shouldReuseResetBuilderOnSameThread() {
+        Integer first = builderPool.build(numberBuilder -> numberBuilder.number = 1);
+        NumberBuilder reused = builderPool.acquire();
+
+        assertAll(
+                () -> assertThat(first).as("first bean").isEqualTo(1),
+                () -> assertThat(reused.number).as("reset number").isZero(),
+                () -> assertThat(noOfBuilders).as("builders").hasValue(1)
+        );
+    }
+
+    @DisplayName("should validate a bean built by a pooled builder and return the builder to the pool")
+    @Test void shouldValidateBeanBuiltByPooledBuilderAndReturnBuilderToPool() {
+        assertAll(
+                () -> assertThatIllegalStateException().isThrownBy(() -> builderPool.build(numberBuilder -> numberBuilder.number = -1))
+                        .withMessage("Integer has invalid fields:\n- 'number' must be positive"),
+                () -> assertThat(builderPool.build(numberBuilder -> numberBuilder.number = 2)).as("bean").isEqualTo(2),
+                () -> assertThat(noOfBuilders).as("builders").hasValue(1)
+        );
+    }
+
+    @DisplayName("should not share the builders of a thread with other threads")
+    @Test void shouldNotShareBuildersWithOtherThreads() {
+        NumberBuilder builder = builderPool.acquire();
+        builderPool.release(builder);
+
+        assertThat(CompletableFuture.supplyAsync(builderPool::acquire).join()).isNotSameAs(builder);
+    }
+
+    private static class NumberBuilder extends AbstractBuilder<Integer> {
+        private int number;
+
+        private NumberBuilder() {
+            super(aNumber -> ValidationResult.validateLazily(Integer.class).positive("number", aNumber, "must be positive").returnResult());
+        }
+
+        @Override protected Integer buildBean() {
+            return number;
+        }
+
+        @Override protected void clear() {
+            number = 0;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.jactor.rises.builder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("CachingValidInstance")
+class CachingValidInstanceTest {
+
+    private final AtomicInteger validations = new AtomicInteger();
+    private final ValidInstance<String> currencyCode = code -> {
+        validations.incrementAndGet();
+
+        return ValidationResult.validateLazily(String.class).matches("code", code, "[A-Z]{3}", "must be a currency code").returnResult();
+    };
+
+    @DisplayName("should only validate an equal valid bean once")
+    @Test void shouldOnlyValidateEqualValidBeanOnce() {
+        CachingValidInstance<String> cachingValidInstance = CachingValidInstance.byEquality(currencyCode, 10);
+
+        assertAll(
+                () -> assertThat(cachingValidInstance.validate("NOK")).as("first").isEmpty(),
+                () -> assertThat(cachingValidInstance.validate(new String("NOK"))).as("second").isEmpty(),
+                () -> assertThat(validations).as("validations").hasValue(1),
+                () -> assertThat(cachingValidInstance.getHitCount()).as("hits").isEqualTo(1),
+                () -> assertThat(cachingValidInstance.getMissCount()).as("misses").isEqualTo(1)
+        );
+    }
+
+    @DisplayName("should validate an invalid bean every time")
+    @Test void shouldValidateInvalidBeanEveryTime() {
+        CachingValidInstance<String> cachingValidInstance = CachingValidInstance.byEquality(currencyCode, 10);
+
+        assertAll(
+                () -> assertThat(cachingValidInstance.validate("nok")).as("first").isPresent(),
+                () -> assertThat(cachingValidInstance.validate("nok")).as("second").isPresent(),
+                () -> assertThat(validations).as("validations").hasValue(2),
+                () -> assertThat(cachingValidInstance.size()).as("size").isZero()
+        );
+    }
+
+    @DisplayName("should cache the valid beans by their key")
+    @Test void shouldCacheValidBeansByTheirKey() {
+        CachingValidInstance<String> cachingValidInstance = CachingValidInstance.byKey(currencyCode, code -> code.substring(0, 1), 10);
+
+        cachingValidInstance.validate("NOK");
+        cachingValidInstance.validate("NZD");
+
+        assertThat(validations).hasValue(1);
+    }
+
+    @DisplayName("should evict the least recently used beans when the cache is full")
+    @Test void shouldEvictLeastRecentlyUsedBeansWhenCacheIsFull() {
+        CachingValidInstance<String> cachingValidInstance = CachingValidInstance.byEquality(currencyCode, 10);
+        IntStream.range(0, 100).mapToObj(i -> "A" + (char) ('A' + i / 26) + (char) ('A' + i % 26)).forEach(cachingValidInstance::validate);
+
+        assertAll(
+                () -> assertThat(cachingValidInstance.size()).as("size").isLessThanOrEqualTo(10),
+                () -> assertThat(cachingValidInstance.getEvictionCount()).as("evictions").isGreaterThanOrEqualTo(90)
+        );
+    }
+
+    @DisplayName("should keep a recently used bean when evicting")
+    @Test void shouldKeepRecentlyUsedBeanWhenEvicting() throws InterruptedException {
+        CachingValidInstance<String> cachingValidInstance = CachingValidInstance.byEquality(currencyCode, 10);
+        IntStream.range(0, 10).mapToObj(i -> "AA" + (char) ('A' + i)).forEach(cachingValidInstance::validate);
+        TimeUnit.MILLISECONDS.sleep(2);
+        cachingValidInstance.validate("AAA");
+        cachingValidInstance.validate("NOK");
+        cachingValidInstance.validate("AAA");
+
+        assertAll(
+                () -> assertThat(cachingValidInstance.getEvictionCount()).as("evictions").isEqualTo(2),
+                () -> assertThat(cachingValidInstance.getHitCount()).as("hits").isEqualTo(2),
+                () -> assertThat(validations).as("validations").hasValue(11)
+        );
+    }
+
+    @DisplayName("should validate a bean again when it is expired")
+    @Test void shouldValidateBeanAgainWhenExpired() {
+        CachingValidInstance<String> cachingValidInstance = CachingValidInstance.byEquality(currencyCode, 10).expireAfter(1, TimeUnit.NANOSECONDS);
+
+        cachingValidInstance.validate("NOK");
+        cachingValidInstance.validate("NOK");
+
+        assertThat(validations).hasValue(2);
+    }
+
+    @DisplayName("should skip the validation of a build when an equal bean is already valid")
+    @Test void shouldSkipValidationOfBuildWhenEqualBeanIsValid() {
+        CachingValidInstance<String> cachingValidInstance = CachingValidInstance.byEquality(currencyCode, 10);
+
+        assertAll(
+                () -> assertThat(new CodeBuilder(cachingValidInstance, "EUR").build()).as("first build").isEqualTo("EUR"),
+                () -> assertThat(new CodeBuilder(cachingValidInstance, "EUR").build()).as("second build").isEqualTo("EUR"),
+                () -> assertThatIllegalStateException().as("invalid build").isThrownBy(new CodeBuilder(cachingValidInstance, "eur")::build),
+                () -> assertThat(validations).as("validations").hasValue(2)
+        );
+    }
+
+    private static class CodeBuilder extends AbstractBuilder<String> {
+        private final String code;
+
+        private CodeBuilder(ValidInstance<String> validInstance, String code) {
+            super(validInstance);
+            this.code = code;
+        }
+
+        @Override protected String buildBean() {
+            return code;
+        }
+    }
+}
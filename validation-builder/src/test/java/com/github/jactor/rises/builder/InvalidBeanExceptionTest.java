@@ -0,0 +1,77 @@
+package com.github.jactor.rises.builder;
+
+import com.github.jactor.rises.builder.ValidationResult.InvalidField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("InvalidBeanException")
+class InvalidBeanExceptionTest {
+
+    private final ValidationResult validationResult = ValidationResult.validate(InvalidBeanExceptionTest.class)
+            .notNull("aField", null, "cannot be null")
+            .notEmpty("anotherField", "", "cannot be empty");
+
+    @DisplayName("should provide the invalid fields and the name of the bean")
+    @Test void shouldProvideInvalidFieldsAndBeanName() {
+        InvalidBeanException invalidBeanException = new InvalidBeanException(validationResult);
+
+        assertAll(
+                () -> assertThat(invalidBeanException.getBeanClass()).as("bean class").isEqualTo(InvalidBeanExceptionTest.class),
+                () -> assertThat(invalidBeanException.getInvalidFields()).as("invalid fields")
+                        .extracting(InvalidField::getFieldName, InvalidField::getFieldMessage)
+                        .containsExactly(
+                                tuple("aField", "cannot be null"),
+                                tuple("anotherField", "cannot be empty")
+                        ),
+                () -> assertThat(invalidBeanException.getMessage()).as("message")
+                        .isEqualTo("InvalidBeanExceptionTest has invalid fields:\n- 'aField' cannot be null,\n- 'anotherField' cannot be empty")
+        );
+    }
+
+    @DisplayName("should not change when the validation result changes after the exception is created")
+    @Test void shouldNotChangeWhenValidationResultChanges() {
+        InvalidBeanException invalidBeanException = new InvalidBeanException(validationResult);
+        validationResult.notTrue("yetAnotherField", true, "cannot be true");
+
+        assertThat(invalidBeanException.getInvalidFields()).hasSize(2);
+    }
+
+    @DisplayName("should only fill in the stack trace when it is writable")
+    @Test void shouldOnlyFillInStackTraceWhenWritable() {
+        assertAll(
+                () -> assertThat(new InvalidBeanException(validationResult, true).getStackTrace()).as("writable").isNotEmpty(),
+                () -> assertThat(new InvalidBeanException(validationResult, false).getStackTrace()).as("not writable").isEmpty()
+        );
+    }
+
+    @DisplayName("should be serializable with its invalid fields")
+    @Test void shouldBeSerializableWithInvalidFields() throws Exception {
+        InvalidBeanException invalidBeanException = new InvalidBeanException(validationResult.invalidPath("children[0].aField", "cannot be null"));
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(serialized)) {
+            objectOutputStream.writeObject(invalidBeanException);
+        }
+
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(serialized.toByteArray()))) {
+            InvalidBeanException deserialized = (InvalidBeanException) objectInputStream.readObject();
+
+            assertAll(
+                    () -> assertThat(deserialized.getMessage()).as("message").isEqualTo(invalidBeanException.getMessage()),
+                    () -> assertThat(deserialized.getBeanClass()).as("bean class").isEqualTo(InvalidBeanExceptionTest.class),
+                    () -> assertThat(deserialized.getInvalidFields()).as("invalid fields").isEqualTo(invalidBeanException.getInvalidFields()),
+                    () -> assertThat(deserialized.getInvalidFields().get(0)).as("interned invalid field")
+                            .isSameAs(invalidBeanException.getInvalidFields().get(0))
+            );
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.jactor.rises.builder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * Tests the classes of the multi-release jar for JDK 21, which are only used when loaded from the jar. It is run when
+ * the jar is packaged with JDK 21 or later, and given by the system property {@code multiReleaseJar}.
+ */
+@EnabledIfSystemProperty(named = "multiReleaseJar", matches = ".+")
+@DisplayName("The multi-release jar")
+class MultiReleaseJarTest {
+
+    @DisplayName("should tell when the current thread is a virtual thread")
+    @Test void shouldTellWhenCurrentThreadIsVirtual() throws Exception {
+        URL multiReleaseJar = new File(System.getProperty("multiReleaseJar")).toURI().toURL();
+
+        try (URLClassLoader jarClassLoader = new URLClassLoader(new URL[]{multiReleaseJar}, null)) {
+            Method isVirtual = jarClassLoader.loadClass(Threads.class.getName()).getDeclaredMethod("isVirtual");
+            isVirtual.setAccessible(true);
+            AtomicReference<Object> isVirtualOnVirtualThread = new AtomicReference<>();
+
+            Thread virtualThread = (Thread) Thread.class.getMethod("startVirtualThread", Runnable.class).invoke(null, (Runnable) () -> {
+                try {
+                    isVirtualOnVirtualThread.set(isVirtual.invoke(null));
+                } catch (ReflectiveOperationException roe) {
+                    isVirtualOnVirtualThread.set(roe);
+                }
+            });
+
+            virtualThread.join();
+
+            assertAll(
+                    () -> assertThat(isVirtualOnVirtualThread).as("virtual thread").hasValue(true),
+                    () -> assertThat(isVirtual.invoke(null)).as("platform thread").isEqualTo(false)
+            );
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.github.jactor.rises.builder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("RuleSet")
+class RuleSetTest {
+
+    private final RuleSet<Bean> ruleSet = RuleSet.declare(Bean.class)
+            .notEmpty("name", bean -> bean.name, "must be named")
+            .notNull("value", bean -> bean.value, "must have a value")
+            .positive("count", bean -> bean.count, "must be positive")
+            .inRange("count", bean -> bean.count, 0, 10, "must be in range")
+            .notNaN("amount", bean -> bean.amount, "must be a number")
+            .notTrue("name", bean -> "invalid".equals(bean.name), "cannot be invalid")
+            .notFalse("value", bean -> bean.value == null || bean.value.startsWith("a"), "must start with a")
+            .build();
+
+    @DisplayName("should validate a valid bean")
+    @Test void shouldValidateValidBean() {
+        assertThat(ruleSet.validate(new Bean("name", "a value", 5, 1.5))).isEmpty();
+    }
+
+    @DisplayName("should validate every rule in the order they are declared")
+    @Test void shouldValidateEveryRuleInDeclarationOrder() {
+        Bean bean = new Bean("invalid", "value", 11, Double.NaN);
+
+        assertThatIllegalStateException().isThrownBy(() -> ruleSet.validate(bean).ifPresent(ValidationResult::throwIllegalStateExceptionWhenInvalid))
+                .withMessage("Bean has invalid fields:\n" +
+                        "- 'count' must be in range,\n" +
+                        "- 'amount' must be a number,\n" +
+                        "- 'name' cannot be invalid,\n" +
+                        "- 'value' must start with a"
+                );
+    }
+
+    @DisplayName("should stop validating at the first invalid field when failing fast")
+    @Test void shouldStopValidatingAtFirstInvalidFieldWhenFailingFast() {
+        Bean bean = new Bean(null, null, 0, Double.NaN);
+
+        assertAll(
+                () -> assertThat(ruleSet.failFast().validate(bean)).as("fail fast").hasValueSatisfying(
+                        validationResult -> assertThat(validationResult.getInvalidFields()).hasSize(1)
+                ),
+                () -> assertThat(ruleSet.failFast().collectAll().validate(bean)).as("collect all").hasValueSatisfying(
+                        validationResult -> assertThat(validationResult.getInvalidFields()).hasSize(4)
+                ),
+                () -> assertThat(ruleSet.failFast().failFast()).as("same fail fast rule set").isSameAs(ruleSet.failFast())
+        );
+    }
+
+    @DisplayName("should validate the format of strings")
+    @Test void shouldValidateFormatOfStrings() {
+        RuleSet<Bean> formats = RuleSet.declare(Bean.class)
+                .matches("name", bean -> bean.name, Pattern.compile("[a-z]+"), "must be lower case")
+                .maxLength("name", bean -> bean.name, 4, "is too long")
+                .emailAddress("value", bean -> bean.value, "must be an email address")
+                .isoLocalDate("value", bean -> bean.value, "must be a date")
+                .build();
+
+        assertThat(formats.validate(new Bean("Named", "name@example.com", 1, 1))).hasValueSatisfying(
+                validationResult -> assertThat(validationResult.getInvalidFields()).extracting(ValidationResult.InvalidField::getFieldMessage)
+                        .containsExactly("must be lower case", "is too long", "must be a date")
+        );
+    }
+
+    @DisplayName("should evaluate the rules concurrently and merge the invalid fields in declaration order")
+    @Test void shouldEvaluateRulesConcurrentlyAndMergeInvalidFieldsInDeclarationOrder() throws Exception {
+        CountDownLatch allRulesStarted = new CountDownLatch(3);
+        RuleSet.Declaration<Bean> declaration = RuleSet.declare(Bean.class);
+
+        for (String fieldName : new String[]{"first", "second", "third"}) {
+            declaration.notFalse(fieldName, bean -> {
+                allRulesStarted.countDown();
+                return awaitAll(allRulesStarted) && !"second".equals(fieldName);
+            }, "cannot be false");
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+
+        try {
+            assertThat(declaration.build().validateAsync(new Bean("name", "value", 1, 1), executorService).get(5, TimeUnit.SECONDS))
+                    .hasValueSatisfying(validationResult -> assertThat(validationResult.getInvalidFields())
+                            .extracting(ValidationResult.InvalidField::getFieldName)
+                            .containsExactly("second")
+                    );
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @DisplayName("should validate a shared bean once and stop at cycles when validating asynchronously")
+    @Test void shouldValidateSharedBeanOnceAndStopAtCyclesWhenValidatingAsynchronously() throws Exception {
+        AtomicInteger validations = new AtomicInteger();
+        Node root = new Node("root");
+        Node shared = new Node("");
+        root.parent = shared;
+        root.children.add(shared);
+        root.childrenByName.put("shared", shared);
+        shared.parent = root;
+        shared.children.add(root);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+        try {
+            Optional<ValidationResult> validationResult = Node.validate(validations).validateAsync(root, executorService).get(2, TimeUnit.SECONDS);
+
+            assertAll(
+                    () -> assertThat(validationResult).as("validation result").hasValueSatisfying(
+                            invalidResult -> assertThat(invalidResult.getInvalidFields()).extracting(ValidationResult.InvalidField::getFieldName)
+                                    .containsExactly("parent.name", "children[0].name", "childrenByName[shared].name")
+                    ),
+                    () -> assertThat(validations).as("validations").hasValue(2)
+            );
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @DisplayName("should only evaluate the rules depending on dirty fields when validating incrementally")
+    @Test void shouldOnlyEvaluateRulesDependingOnDirtyFieldsWhenValidatingIncrementally() {
+        AtomicInteger nameEvaluations = new AtomicInteger();
+        AtomicInteger countEvaluations = new AtomicInteger();
+        AtomicInteger undeclaredEvaluations = new AtomicInteger();
+        RuleSet.Incremental<Bean> incremental = RuleSet.declare(Bean.class)
+                .notTrue("name", bean -> nameEvaluations.incrementAndGet() > 0 && bean.name == null, "must be named").dependsOn("name")
+                .notTrue("count", bean -> countEvaluations.incrementAndGet() > 0 && bean.count < 1, "must be positive").dependsOn("count", "amount")
+                .notTrue("value", bean -> undeclaredEvaluations.incrementAndGet() < 0, "is never invalid")
+                .build().incremental();
+
+        incremental.validate(new Bean(null, "value", 1, 1));
+        incremental.markDirty("count");
+        incremental.markDirty("unknown");
+
+        assertAll(
+                () -> assertThat(incremental.validate(new Bean(null, "value", 0, 1))).as("cached and changed outcomes").hasValueSatisfying(
+                        validationResult -> assertThat(validationResult.getInvalidFields()).extracting(ValidationResult.InvalidField::getFieldName)
+                                .containsExactly("name", "count")
+                ),
+                () -> assertThat(nameEvaluations).as("name evaluations").hasValue(1),
+                () -> assertThat(countEvaluations).as("count evaluations").hasValue(2),
+                () -> assertThat(undeclaredEvaluations).as("evaluations without dependencies").hasValue(2)
+        );
+    }
+
+    @DisplayName("should evaluate the rules of nested beans every time and validate a graph once when validating incrementally")
+    @Test void shouldEvaluateRulesOfNestedBeansEveryTimeWhenValidatingIncrementally() {
+        AtomicInteger validations = new AtomicInteger();
+        Node root = new Node("root");
+        Node child = new Node("child");
+        root.children.add(child);
+        root.childrenByName.put("child", child);
+        RuleSet<Node> validNode = Node.validate(validations);
+        RuleSet.Incremental<Node> incremental = RuleSet.declare(Node.class)
+                .eachValid("children", node -> node.children, validNode).dependsOn("children")
+                .eachValidValue("childrenByName", node -> node.childrenByName, validNode).dependsOn("childrenByName")
+                .build().incremental();
+
+        Optional<ValidationResult> beforeChange = incremental.validate(root);
+        int validationsBeforeChange = validations.get();
+        child.name = "";
+
+        assertAll(
+                () -> assertThat(beforeChange).as("before nested change").isEmpty(),
+                () -> assertThat(validationsBeforeChange).as("validations of the shared child").isEqualTo(1),
+                () -> assertThat(incremental.validate(root)).as("after nested change").hasValueSatisfying(
+                        validationResult -> assertThat(validationResult.getInvalidFields()).extracting(ValidationResult.InvalidField::getFieldName)
+                                .containsExactly("children[0].name", "childrenByName[child].name")
+                )
+        );
+    }
+
+    @DisplayName("should name the invalid fields of nested beans by their path")
+    @Test void shouldNameInvalidFieldsOfNestedBeansByTheirPath() {
+        Node root = new Node("root");
+        Node child = new Node("child");
+        root.parent = new Node(null);
+        root.children.add(child);
+        root.children.add(new Node(""));
+        root.childrenByName.put("first", child);
+        child.children.add(new Node(" "));
+
+        assertThat(Node.validate(new AtomicInteger()).validate(root)).hasValueSatisfying(
+                validationResult -> assertThat(validationResult.getInvalidFields()).extracting(ValidationResult.InvalidField::getFieldName)
+                        .containsExactly("parent.name", "children[0].children[0].name", "children[1].name", "childrenByName[first].children[0].name")
+        );
+    }
+
+    @DisplayName("should validate a bean shared in a graph once and stop at cycles")
+    @Test void shouldValidateSharedBeanOnceAndStopAtCycles() {
+        AtomicInteger validations = new AtomicInteger();
+        Node root = new Node("root");
+        Node shared = new Node("shared");
+        root.parent = shared;
+        root.children.add(shared);
+        root.childrenByName.put("shared", shared);
+        shared.parent = root;
+        shared.children.add(root);
+
+        assertAll(
+                () -> assertThat(Node.validate(validations).validate(root)).as("validation result").isEmpty(),
+                () -> assertThat(validations).as("validations").hasValue(2)
+        );
+    }
+
+    @DisplayName("should validate a bean reached by two valid instances in a graph with each of them")
+    @Test void shouldValidateBeanReachedByTwoValidInstancesWithEachOfThem() {
+        Node root = new Node("root");
+        Node child = new Node("child");
+        root.children.add(child);
+        root.childrenByName.put("child", child);
+        RuleSet<Node> named = RuleSet.declare(Node.class).notEmpty("name", node -> node.name, "must be named").build();
+        RuleSet<Node> shortlyNamed = RuleSet.declare(Node.class).maxLength("name", node -> node.name, 3, "must have a short name").build();
+
+        assertThat(RuleSet.declare(Node.class)
+                .eachValid("children", node -> node.children, named)
+                .eachValidValue("childrenByName", node -> node.childrenByName, shortlyNamed)
+                .build().validate(root)
+        ).hasValueSatisfying(
+                validationResult -> assertThat(validationResult.getInvalidFields()).extracting(ValidationResult.InvalidField::getFieldName)
+                        .containsExactly("childrenByName[child].name")
+        );
+    }
+
+    @DisplayName("should register the rule set of a class once, when the class is initialized")
+    @Test void shouldRegisterRuleSetOfClassOnceWhenClassIsInitialized() {
+        RuleSet<Registered> ruleSet = RuleSet.of(Registered.class);
+
+        assertAll(
+                () -> assertThat(RuleSet.of(Registered.class)).as("registered rule set").isSameAs(ruleSet),
+                () -> assertThat(Registered.NO_OF_DECLARATIONS).as("number of declarations").hasValue(1),
+                () -> assertThat(ruleSet.validate(new Registered())).as("validation").isPresent(),
+                () -> assertThatIllegalStateException().as("registered again").isThrownBy(() -> RuleSet.register(Registered.class, rules -> rules))
+                        .withMessageContaining(Registered.class.getName()),
+                () -> assertThatIllegalStateException().as("not registered").isThrownBy(() -> RuleSet.of(Bean.class))
+                        .withMessage("No rule set of " + Bean.class.getName() + " is registered")
+        );
+    }
+
+    private static boolean awaitAll(CountDownLatch countDownLatch) {
+        try {
+            return countDownLatch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static class Bean {
+        private final String name;
+        private final String value;
+        private final int count;
+        private final double amount;
+
+        private Bean(String name, String value, int count, double amount) {
+            this.name = name;
+            this.value = value;
+            this.count = count;
+            this.amount = amount;
+        }
+    }
+
+    private static class Registered {
+        private static final AtomicInteger NO_OF_DECLARATIONS = new AtomicInteger();
+
+        static {
+            RuleSet.register(Registered.class, rules -> {
+                NO_OF_DECLARATIONS.incrementAndGet();
+                return rules.notNull("field", registered -> null, "cannot be null");
+            });
+        }
+    }
+
+    private static class Node {
+        private String name;
+        private final List<Node> children = new ArrayList<>();
+        private final Map<String, Node> childrenByName = new LinkedHashMap<>();
+        private Node parent;
+
+        private Node(String name) {
+            this.name = name;
+        }
+
+        private static RuleSet<Node> validate(AtomicInteger validations) {
+            RuleSet.Declaration<Node> declaration = RuleSet.declare(Node.class)
+                    .notTrue("validated", node -> validations.incrementAndGet() < 0, "is never invalid")
+                    .notEmpty("name", node -> node.name, "must be named");
+            List<RuleSet<Node>> nodeRuleSet = new ArrayList<>();
+            ValidInstance<Node> validNode = node -> nodeRuleSet.get(0).validate(node);
+
+            nodeRuleSet.add(declaration
+                    .valid("parent", node -> node.parent, validNode)
+                    .eachValid("children", node -> node.children, validNode)
+                    .eachValidValue("childrenByName", node -> node.childrenByName, validNode)
+                    .build()
+            );
+
+            return nodeRuleSet.get(0);
+        }
+    }
+}
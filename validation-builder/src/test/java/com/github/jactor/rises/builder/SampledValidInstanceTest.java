@@ -0,0 +1,65 @@
+package com.github.jactor.rises.builder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("SampledValidInstance")
+class SampledValidInstanceTest {
+
+    private final List<Double> failureRates = new ArrayList<>();
+    private final ValidInstance<Integer> positive = number -> ValidationResult.validateLazily(Integer.class)
+            .positive("number", number, "must be positive")
+            .returnResult();
+
+    @DisplayName("should only validate the sampled beans and report the failure rate of the samples")
+    @Test void shouldOnlyValidateSampledBeansAndReportFailureRate() {
+        AtomicInteger noOfBeans = new AtomicInteger();
+        SampledValidInstance<Integer> sampledValidInstance = new SampledValidInstance<>(
+                Integer.class, positive, () -> noOfBeans.incrementAndGet() % 2 == 0, (beanClass, result, failureRate) -> failureRates.add(failureRate)
+        );
+
+        assertAll(
+                () -> assertThat(sampledValidInstance.validate(-1)).as("skipped invalid bean").isEmpty(),
+                () -> assertThat(sampledValidInstance.validate(-2)).as("sampled invalid bean").isPresent(),
+                () -> assertThat(sampledValidInstance.validate(3)).as("skipped valid bean").isEmpty(),
+                () -> assertThat(sampledValidInstance.validate(4)).as("sampled valid bean").isEmpty(),
+                () -> assertThat(failureRates).as("failure rates").containsExactly(1.0, 0.5),
+                () -> assertThat(sampledValidInstance.getSkippedCount()).as("skipped").isEqualTo(2),
+                () -> assertThat(sampledValidInstance.getSampledCount()).as("sampled").isEqualTo(2),
+                () -> assertThat(sampledValidInstance.getFailedCount()).as("failed").isEqualTo(1)
+        );
+    }
+
+    @DisplayName("should sample about one in n beans")
+    @Test void shouldSampleAboutOneInNBeans() {
+        SamplingPolicy oneInTen = SamplingPolicy.oneIn(10);
+
+        assertAll(
+                () -> assertThat(IntStream.range(0, 100_000).filter(i -> oneInTen.sample()).count()).as("one in ten")
+                        .isCloseTo(10_000, within(1_000L)),
+                () -> assertThat(SamplingPolicy.oneIn(1).sample()).as("one in one").isTrue(),
+                () -> assertThatIllegalArgumentException().as("one in zero").isThrownBy(() -> SamplingPolicy.oneIn(0))
+        );
+    }
+
+    @DisplayName("should sample at most one bean in every interval")
+    @Test void shouldSampleAtMostOneBeanInEveryInterval() {
+        SamplingPolicy oncePerHour = SamplingPolicy.atMostEvery(1, TimeUnit.HOURS);
+
+        assertAll(
+                () -> assertThat(oncePerHour.sample()).as("first").isTrue(),
+                () -> assertThat(oncePerHour.sample()).as("second").isFalse()
+        );
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.jactor.rises.builder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("ValidInstance")
+class ValidInstanceTest {
+
+    private final ValidInstance<String> validInstance = string -> ValidationResult.validateLazily(String.class)
+            .notEmpty("string", string, "cannot be empty")
+            .returnResult();
+
+    @DisplayName("should validate all the beans in a batch")
+    @Test void shouldValidateAllBeansInBatch() {
+        BatchResult<String> batchResult = validInstance.validateAll(Arrays.asList("one", "", "three", null));
+
+        assertAll(
+                () -> assertThat(batchResult.getValidInstances()).as("valid instances").containsExactly("one", "three"),
+                () -> assertThat(batchResult.getInvalidIndexes()).as("invalid indexes").containsExactly(1, 3)
+        );
+    }
+
+    @DisplayName("should validate all the beans of a stream in a batch and close the stream")
+    @Test void shouldValidateAllBeansOfStreamInBatchAndCloseTheStream() {
+        AtomicInteger closed = new AtomicInteger();
+        BatchResult<String> batchResult = validInstance.validateAll(Stream.of("one", "", "three", null).parallel().onClose(closed::incrementAndGet));
+
+        assertAll(
+                () -> assertThat(batchResult.getValidInstances()).as("valid instances").containsExactly("one", "three"),
+                () -> assertThat(batchResult.getInvalidIndexes()).as("invalid indexes").containsExactly(1, 3),
+                () -> assertThat(closed).as("closed").hasValue(1)
+        );
+    }
+
+    @DisplayName("should validate all the beans in a batch in parallel")
+    @Test void shouldValidateAllBeansInBatchInParallel() {
+        BatchResult<String> batchResult = validInstance.validateAll(Arrays.asList("one", " ", "three", "four", " "), ForkJoinPool.commonPool());
+
+        assertAll(
+                () -> assertThat(batchResult.getValidInstances()).as("valid instances").containsExactly("one", "three", "four"),
+                () -> assertThat(batchResult.getInvalidIndexes()).as("invalid indexes").containsExactly(1, 4)
+        );
+    }
+
+    @DisplayName("should validate a stream lazily and give the invalid beans to the sink")
+    @Test void shouldValidateStreamLazilyAndGiveInvalidBeansToSink() {
+        AtomicInteger advanced = new AtomicInteger();
+        ConcurrentLinkedQueue<String> invalidBeans = new ConcurrentLinkedQueue<>();
+        ValidationSummary validationSummary = new ValidationSummary();
+
+        List<String> firstValid = validInstance.validateAll(
+                Stream.of("", "one", "two").peek(string -> advanced.incrementAndGet()), (bean, result) -> invalidBeans.add(bean), validationSummary
+        ).limit(1).collect(Collectors.toList());
+
+        assertAll(
+                () -> assertThat(firstValid).as("valid beans").containsExactly("one"),
+                () -> assertThat(advanced).as("advanced beans").hasValue(2),
+                () -> assertThat(invalidBeans).as("invalid beans").containsExactly(""),
+                () -> assertThat(validationSummary.getValidCount()).as("valid count").isEqualTo(1),
+                () -> assertThat(validationSummary.getInvalidCount()).as("invalid count").isEqualTo(1)
+        );
+    }
+
+    @DisplayName("should validate a parallel stream and summarize the invalid fields")
+    @Test void shouldValidateParallelStreamAndSummarizeInvalidFields() {
+        ValidationSummary validationSummary = new ValidationSummary();
+        Stream<String> beans = IntStream.range(0, 10_000).parallel().mapToObj(i -> i % 4 == 0 ? " " : Integer.toString(i));
+        Stream<String> validBeans = validInstance.validateAll(beans, (bean, result) -> { }, validationSummary);
+
+        assertAll(
+                () -> assertThat(validBeans.isParallel()).as("parallel").isTrue(),
+                () -> assertThat(validBeans.count()).as("valid beans").isEqualTo(7_500),
+                () -> assertThat(validationSummary.getInvalidCount()).as("invalid count").isEqualTo(2_500),
+                () -> assertThat(validationSummary.getInvalidFieldCounts()).as("invalid field counts").containsOnly(entry("string", 2_500L))
+        );
+    }
+
+    @DisplayName("should split the source of a validated stream")
+    @Test void shouldSplitSourceOfValidatedStream() {
+        Spliterator<String> spliterator = validInstance.validateAll(Arrays.asList("one", "", "three", "four").stream(), (bean, result) -> { }, new ValidationSummary())
+                .spliterator();
+
+        assertThat(spliterator.trySplit()).as("prefix").isNotNull();
+    }
+}
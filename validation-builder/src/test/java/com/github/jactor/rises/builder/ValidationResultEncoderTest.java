@@ -0,0 +1,178 @@
+package com.github.jactor.rises.builder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("ValidationResultEncoder")
+class ValidationResultEncoderTest {
+
+    private final ValidationResultDecoder validationResultDecoder = new ValidationResultDecoder();
+    private final ValidationResultEncoder validationResultEncoder = new ValidationResultEncoder(16);
+
+    @DisplayName("should encode validation results which are decoded with the same invalid fields")
+    @Test void shouldEncodeValidationResultsWhichAreDecodedWithSameInvalidFields() {
+        ValidationResult validationResult = ValidationResult.validate(ValidationResultEncoderTest.class)
+                .notNull("aField", null, "cannot be null")
+                .notEmpty("anotherField", " ", "cannot be empty")
+                .invalidPath("children[0].aField", "cannot be null");
+
+        Optional<List<ValidationResult>> decoded = validationResultDecoder.decode(
+                validationResultEncoder.encode(Arrays.asList(validationResult, validationResult))
+        );
+
+        assertThat(decoded).hasValueSatisfying(validationResults -> assertAll(
+                () -> assertThat(validationResults).as("validation results").hasSize(2),
+                () -> assertThat(validationResults.get(1).getClassToValidate()).as("class").isEqualTo(ValidationResultEncoderTest.class),
+                () -> assertThat(validationResults.get(1).getInvalidFields()).as("invalid fields").isEqualTo(validationResult.getInvalidFields()),
+                () -> assertThat(validationResults.get(1).getInvalidFields().get(0)).as("interned invalid field")
+                        .isSameAs(validationResult.getInvalidFields().get(0))
+        ));
+    }
+
+    @DisplayName("should only define the classes and invalid fields once")
+    @Test void shouldOnlyDefineClassesAndInvalidFieldsOnce() {
+        List<ValidationResult> validationResults = Collections.singletonList(
+                ValidationResult.validate(ValidationResultEncoderTest.class).notNull("aField", null, "cannot be null")
+        );
+
+        int firstFrame = validationResultEncoder.encode(validationResults).remaining();
+        int secondFrame = validationResultEncoder.encode(validationResults).remaining();
+
+        assertThat(secondFrame).as("frame without definitions").isEqualTo(4 + 1 + 4 + 4 + 4).isLessThan(firstFrame);
+    }
+
+    @DisplayName("should read the frames written to a channel")
+    @Test void shouldReadFramesWrittenToChannel() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        WritableByteChannel writableChannel = Channels.newChannel(output);
+        ValidationResult validationResult = ValidationResult.validate(ValidationResultEncoderTest.class).notNull("aField", null, "cannot be null");
+
+        validationResultEncoder.write(Collections.singletonList(validationResult), writableChannel);
+        validationResultEncoder.write(Collections.emptyList(), writableChannel);
+        validationResultEncoder.write(Arrays.asList(validationResult, validationResult), writableChannel);
+
+        ReadableByteChannel readableChannel = Channels.newChannel(new ByteArrayInputStream(output.toByteArray()));
+
+        assertAll(
+                () -> assertThat(validationResultDecoder.read(readableChannel)).as("first frame").hasValueSatisfying(results -> assertThat(results).hasSize(1)),
+                () -> assertThat(validationResultDecoder.read(readableChannel)).as("second frame").hasValueSatisfying(results -> assertThat(results).isEmpty()),
+                () -> assertThat(validationResultDecoder.read(readableChannel)).as("third frame").hasValueSatisfying(results -> assertThat(results).hasSize(2)),
+                () -> assertThat(validationResultDecoder.read(readableChannel)).as("end of channel").isEmpty()
+        );
+    }
+
+    @DisplayName("should not read from a buffer without a whole frame")
+    @Test void shouldNotReadFromBufferWithoutWholeFrame() {
+        ByteBuffer frame = validationResultEncoder.encode(Collections.singletonList(
+                ValidationResult.validate(ValidationResultEncoderTest.class).notNull("aField", null, "cannot be null")
+        ));
+
+        ByteBuffer partialFrame = ByteBuffer.allocate(frame.remaining() - 1);
+        ((Buffer) partialFrame.put(frame.array(), 0, partialFrame.capacity())).flip();
+
+        assertAll(
+                () -> assertThat(validationResultDecoder.decode(partialFrame)).as("decoded").isEmpty(),
+                () -> assertThat(partialFrame.position()).as("position").isZero()
+        );
+    }
+
+    @DisplayName("should reject a frame with a corrupt length")
+    @Test void shouldRejectFrameWithCorruptLength() {
+        ValidationResultDecoder smallFramesDecoder = new ValidationResultDecoder(getClass().getClassLoader(), 16);
+        ByteBuffer negativeLength = ByteBuffer.allocate(8).putInt(0, -8);
+        ByteBuffer tooLongFrame = ByteBuffer.allocate(8).putInt(0, 17);
+
+        assertAll(
+                () -> assertThatIllegalArgumentException().as("negative").isThrownBy(() -> smallFramesDecoder.decode(negativeLength))
+                        .withMessageContaining("-8"),
+                () -> assertThatIllegalArgumentException().as("too long").isThrownBy(() -> smallFramesDecoder.decode(tooLongFrame)),
+                () -> assertThatThrownBy(() -> smallFramesDecoder.read(Channels.newChannel(new ByteArrayInputStream(tooLongFrame.array()))))
+                        .as("read").isInstanceOf(IOException.class).hasMessageContaining("17"),
+                () -> assertThatThrownBy(() -> validationResultDecoder.read(Channels.newChannel(new ByteArrayInputStream(new byte[]{-1, -1, -1, -1}))))
+                        .as("read negative").isInstanceOf(IOException.class)
+        );
+    }
+
+    @DisplayName("should reject a frame with corrupt records")
+    @Test void shouldRejectFrameWithCorruptRecords() {
+        ByteBuffer undefinedClass = frameOf(records -> records.put(BinaryFormat.RESULT).putInt(7).putInt(0));
+        ByteBuffer undefinedField = frameOf(records -> records.put(BinaryFormat.RESULT).putInt(0).putInt(1).putInt(5));
+        ByteBuffer negativeNoOfFields = frameOf(records -> records.put(BinaryFormat.RESULT).putInt(0).putInt(-2));
+        ByteBuffer truncatedRecord = frameOf(records -> records.put(BinaryFormat.RESULT).put((byte) 0));
+        ByteBuffer tooLongString = frameOf(records -> records.put(BinaryFormat.DEFINE_CLASS).putInt(0).putInt(100).put((byte) 'x'));
+
+        byte[] className = BinaryFormat.bytesOf(String.class.getName());
+        validationResultDecoder.decode(frameOf(records -> records.put(BinaryFormat.DEFINE_CLASS).putInt(0).putInt(className.length).put(className)));
+
+        assertAll(
+                () -> assertThatIllegalArgumentException().as("undefined class").isThrownBy(() -> validationResultDecoder.decode(undefinedClass))
+                        .withMessageContaining("class 7"),
+                () -> assertThatIllegalArgumentException().as("undefined field").isThrownBy(() -> validationResultDecoder.decode(undefinedField))
+                        .withMessageContaining("invalid field 5"),
+                () -> assertThatIllegalArgumentException().as("negative number of fields").isThrownBy(() -> validationResultDecoder.decode(negativeNoOfFields))
+                        .withMessageContaining("-2"),
+                () -> assertThatIllegalArgumentException().as("truncated record").isThrownBy(() -> validationResultDecoder.decode(truncatedRecord))
+                        .withMessageContaining("corrupt"),
+                () -> assertThatIllegalArgumentException().as("too long string").isThrownBy(() -> validationResultDecoder.decode(tooLongString))
+                        .withMessageContaining("100"),
+                () -> assertThatThrownBy(() -> new ValidationResultDecoder().read(Channels.newChannel(new ByteArrayInputStream(undefinedClass.array(), 0, undefinedClass.limit()))))
+                        .as("read").isInstanceOf(IOException.class).hasMessageContaining("class 7")
+        );
+    }
+
+    @DisplayName("should fail when the channel ends inside a frame")
+    @Test void shouldFailWhenChannelEndsInsideFrame() {
+        ByteBuffer frame = validationResultEncoder.encode(Collections.singletonList(
+                ValidationResult.validate(ValidationResultEncoderTest.class).notNull("aField", null, "cannot be null")
+        ));
+
+        byte[] truncatedFrame = Arrays.copyOf(frame.array(), frame.remaining() - 1);
+
+        assertThatThrownBy(() -> validationResultDecoder.read(Channels.newChannel(new ByteArrayInputStream(truncatedFrame))))
+                .isInstanceOf(EOFException.class);
+    }
+
+    @DisplayName("should only keep the definitions of a frame when the whole frame is encoded")
+    @Test void shouldOnlyKeepDefinitionsOfWholeFrame() {
+        ValidationResult validationResult = ValidationResult.validate(ValidationResultEncoderTest.class).notNull("aField", null, "cannot be null");
+        ValidationResult withoutClass = ValidationResult.validate(null).notNull("aField", null, "cannot be null");
+
+        assertThatNullPointerException().as("failing frame")
+                .isThrownBy(() -> validationResultEncoder.encode(Arrays.asList(validationResult, withoutClass)));
+
+        assertThat(validationResultDecoder.decode(validationResultEncoder.encode(Collections.singletonList(validationResult))))
+                .hasValueSatisfying(validationResults -> assertThat(validationResults.get(0).getInvalidFields())
+                        .isEqualTo(validationResult.getInvalidFields())
+                );
+    }
+
+    private static ByteBuffer frameOf(Consumer<ByteBuffer> records) {
+        ByteBuffer frame = ByteBuffer.allocate(64);
+        BinaryFormat.skip(frame, Integer.BYTES);
+        records.accept(frame);
+        ((Buffer) frame.putInt(0, frame.position() - Integer.BYTES)).flip();
+
+        return frame;
+    }
+}
@@ -1,16 +1,28 @@
 package com.github.jactor.rises.builder;
 
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @DisplayName("ValidationResult")
 class ValidationResultTest {
 
     private ValidationResult validationResult = ValidationResult.validate(ValidationResultTest.class);
 
+    @AfterEach void resetNewInstance() {
+        ValidationResult.reset();
+    }
+
     @DisplayName("should throw exception when there are fields that are not valid")
     @Test void shouldThrowExceptionWhenThereAreFieldsThatAreNotValid() {
         validationResult.notNull("nullField", null, "cannot be null");
@@ -35,4 +47,237 @@ class ValidationResultTest {
                 }
         );
     }
-}
\ No newline at end of file
+
+    @DisplayName("should validate conditions which are already evaluated")
+    @Test void shouldValidateEvaluatedConditions() {
+        validationResult.notTrue("trueField", true, "cannot be true")
+                .notTrue("falseField", false, "cannot be true")
+                .notFalse("falseField", false, "cannot be false")
+                .notFalse("trueField", true, "cannot be false");
+
+        assertThatIllegalStateException().isThrownBy(() -> validationResult.throwIllegalStateExceptionWhenInvalid())
+                .withMessage("ValidationResultTest has invalid fields:\n- 'trueField' cannot be true,\n- 'falseField' cannot be false");
+    }
+
+    @DisplayName("should validate primitive values")
+    @Test void shouldValidatePrimitiveValues() {
+        validationResult.positive("zero", 0, "must be positive")
+                .positive("one", 1L, "must be positive")
+                .inRange("tooLow", -1, 0, 10, "must be in range")
+                .inRange("max", 10, 0, 10, "must be in range")
+                .inRange("tooHigh", Long.MAX_VALUE, 0L, Long.MAX_VALUE - 1, "must be in range")
+                .notNaN("nan", Double.NaN, "must be a number")
+                .notNaN("infinity", Double.POSITIVE_INFINITY, "must be a number");
+
+        assertThatIllegalStateException().isThrownBy(() -> validationResult.throwIllegalStateExceptionWhenInvalid())
+                .withMessage("ValidationResultTest has invalid fields:\n" +
+                        "- 'zero' must be positive,\n" +
+                        "- 'tooLow' must be in range,\n" +
+                        "- 'tooHigh' must be in range,\n" +
+                        "- 'nan' must be a number"
+                );
+    }
+
+    @DisplayName("should return the same shared result when validating lazily and all fields are valid")
+    @Test void shouldReturnSharedResultWhenValidatingLazilyAndAllFieldsAreValid() {
+        ValidationResult lazyResult = ValidationResult.validateLazily(ValidationResultTest.class);
+
+        assertAll(
+                () -> assertThat(lazyResult.notNull("field", "value", "cannot be null")
+                        .notEmpty("field", "value", "cannot be empty")
+                        .notTrue("field", () -> false, "cannot be true")
+                        .notFalse("field", () -> true, "cannot be false")
+                ).as("result after checks").isSameAs(lazyResult),
+                () -> assertThat(lazyResult.returnResult()).as("returned result").isEmpty(),
+                () -> assertThat(ValidationResult.validateLazily(ValidationResultTest.class)).as("next lazy result").isSameAs(lazyResult)
+        );
+    }
+
+    @DisplayName("should return a new result containing all invalid fields when validating lazily")
+    @Test void shouldReturnNewResultWhenValidatingLazilyAndFieldsAreInvalid() {
+        ValidationResult lazyResult = ValidationResult.validateLazily(ValidationResultTest.class);
+        ValidationResult invalidResult = lazyResult.notNull("nullField", null, "cannot be null")
+                .notEmpty("emptyField", " ", "cannot be empty");
+
+        assertAll(
+                () -> assertThat(invalidResult).as("invalid result").isNotSameAs(lazyResult),
+                () -> assertThat(lazyResult.returnResult()).as("shared result").isEmpty(),
+                () -> assertThatIllegalStateException().isThrownBy(invalidResult::throwIllegalStateExceptionWhenInvalid)
+                        .withMessage("ValidationResultTest has invalid fields:\n" +
+                                "- 'nullField' cannot be null,\n" +
+                                "- 'emptyField' cannot be empty"
+                        )
+        );
+    }
+
+    @DisplayName("should skip every check following the first invalid field when failing fast")
+    @Test void shouldSkipChecksFollowingFirstInvalidFieldWhenFailingFast() {
+        ValidationResult.FieldCondition unexpectedCondition = () -> {
+            throw new AssertionError("the condition should not be evaluated");
+        };
+
+        assertAll(
+                () -> assertThatIllegalStateException().as("validating").isThrownBy(
+                        () -> ValidationResult.validate(ValidationResultTest.class).failFast()
+                                .notNull("aField", "value", "cannot be null")
+                                .notEmpty("anotherField", "", "cannot be empty")
+                                .notTrue("trueField", unexpectedCondition, "cannot be true")
+                                .notNull("nullField", null, "cannot be null")
+                                .throwIllegalStateExceptionWhenInvalid()
+                ).withMessage("ValidationResultTest has invalid fields:\n- 'anotherField' cannot be empty"),
+                () -> assertThatIllegalStateException().as("validating lazily").isThrownBy(
+                        () -> ValidationResult.validateLazily(ValidationResultTest.class).failFast()
+                                .notNull("nullField", null, "cannot be null")
+                                .notFalse("falseField", unexpectedCondition, "cannot be false")
+                                .throwIllegalStateExceptionWhenInvalid()
+                ).withMessage("ValidationResultTest has invalid fields:\n- 'nullField' cannot be null"),
+                () -> assertThat(ValidationResult.validateLazily(ValidationResultTest.class).failFast().notNull("aField", "value", "cannot be null"))
+                        .as("valid when validating lazily").isSameAs(ValidationResult.validateLazily(ValidationResultTest.class).failFast())
+        );
+    }
+
+    @DisplayName("should share one interned invalid field between the results failing the same way")
+    @Test void shouldShareInternedInvalidFieldBetweenResultsFailingTheSameWay() {
+        ValidationResult.InvalidField invalidField = ValidationResult.validate(ValidationResultTest.class)
+                .notNull("nullField", null, "cannot be null").getInvalidFields().get(0);
+        ValidationResult.InvalidField sameInvalidField = ValidationResult.validateLazily(ValidationResultTest.class)
+                .notNull("nullField", null, "cannot be null").getInvalidFields().get(0);
+
+        assertAll(
+                () -> assertThat(sameInvalidField).as("same invalid field").isSameAs(invalidField),
+                () -> assertThat(invalidField.getBeanClass()).as("bean class").isEqualTo(ValidationResultTest.class),
+                () -> assertThat(ValidationResult.InvalidField.of(ValidationResultTest.class, "nullField", "cannot be null"))
+                        .as("interned invalid field").isSameAs(invalidField),
+                () -> assertThat(ValidationResult.InvalidField.of(ValidationResultTest.class, "nullField", "cannot be missing"))
+                        .as("invalid field with other message").isNotEqualTo(invalidField)
+        );
+    }
+
+    @DisplayName("should validate the format of strings")
+    @Test void shouldValidateFormatOfStrings() {
+        Pattern code = Pattern.compile("[A-Z]{3}");
+
+        assertAll(
+                () -> assertThat(ValidationResult.validateLazily(ValidationResultTest.class)
+                        .notEmpty("text", "\t text ", "cannot be empty")
+                        .matches("code", "NOK", code, "must be a code")
+                        .matches("code", "EUR", "[A-Z]{3}", "must be a code")
+                        .maxLength("text", "text", 4, "is too long")
+                        .maxLength("text", null, 4, "is too long")
+                        .emailAddress("email", "first.last+tag@mail.example-domain.com", "must be an email address")
+                        .isoLocalDate("date", "2024-02-29", "must be a date")
+                        .returnResult()).as("valid strings").isEmpty(),
+                () -> assertThat(ValidationResult.validateLazily(ValidationResultTest.class)
+                        .notEmpty("text", " \t\n", "cannot be empty")
+                        .matches("code", "nok", code, "must be a code")
+                        .matches("code", null, "[A-Z]{3}", "must be a code")
+                        .maxLength("text", "texts", 4, "is too long")
+                        .returnResult()).as("invalid strings").hasValueSatisfying(
+                        validationResult -> assertThat(validationResult.getInvalidFields()).hasSize(4)
+                )
+        );
+    }
+
+    @DisplayName("should only accept email addresses and iso dates which are well formed")
+    @Test void shouldOnlyAcceptWellFormedEmailAddressesAndIsoDates() {
+        String[] invalidEmailAddresses = {"", "@example.com", "name@", "name@example", "name@@example.com", ".name@example.com",
+                "first..last@example.com", "name.@example.com", "name@-example.com", "name@example..com", "na me@example.com"};
+        String[] invalidDates = {"2023-02-29", "2024-13-01", "2024-04-31", "2024-00-10", "24-01-01", "2024/01/01", "2024-1-011"};
+
+        ValidationResult validationResult = ValidationResult.validate(ValidationResultTest.class);
+
+        for (String invalidEmailAddress : invalidEmailAddresses) {
+            validationResult.emailAddress(invalidEmailAddress, invalidEmailAddress, "must be an email address");
+        }
+
+        for (String invalidDate : invalidDates) {
+            validationResult.isoLocalDate(invalidDate, invalidDate, "must be a date");
+        }
+
+        assertThat(validationResult.getInvalidFields()).extracting(ValidationResult.InvalidField::getFieldName)
+                .hasSize(invalidEmailAddresses.length + invalidDates.length);
+    }
+
+    @DisplayName("should not allocate anything when a lazy validation of a valid bean is chained")
+    @Test void shouldNotAllocateWhenLazyValidationOfValidBeanIsChained() {
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled(), "allocations of a thread are measured");
+        long threadId = Thread.currentThread().getId();
+
+        validateValidBeansLazily(10_000);
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        int noOfInvalidBeans = validateValidBeansLazily(100_000);
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertAll(
+                () -> assertThat(noOfInvalidBeans).as("invalid beans").isZero(),
+                () -> assertThat(allocated).as("bytes allocated by 100 000 validations, measuring included").isLessThan(10_000)
+        );
+    }
+
+    @DisplayName("should only use a new instance hook set for the current thread on that thread")
+    @Test void shouldOnlyUseNewInstanceHookForCurrentThreadOnThatThread() throws Exception {
+        ValidationResult.setNewInstanceForCurrentThread(ThreadScopedResult::new);
+        ValidationResult resultOnOtherThread = CompletableFuture.supplyAsync(() -> ValidationResult.validate(ValidationResultTest.class)).get();
+
+        assertAll(
+                () -> assertThat(ValidationResult.validate(ValidationResultTest.class)).as("current thread").isInstanceOf(ThreadScopedResult.class),
+                () -> assertThat(resultOnOtherThread).as("other thread").isNotInstanceOf(ThreadScopedResult.class),
+                () -> {
+                    ValidationResult.resetForCurrentThread();
+                    assertThat(ValidationResult.validate(ValidationResultTest.class)).as("after reset").isNotInstanceOf(ThreadScopedResult.class);
+                }
+        );
+    }
+
+    @DisplayName("should restore the new instance hook which was used by the current thread before a hook was set")
+    @Test void shouldRestoreNewInstanceHookUsedByCurrentThreadBeforeHookWasSet() {
+        ValidationResult.NewInstance threadScoped = ThreadScopedResult::new;
+        ValidationResult.NewInstance anotherThreadScoped = AnotherThreadScopedResult::new;
+        ValidationResult.NewInstance previousOfThreadScoped = ValidationResult.setNewInstanceForCurrentThread(threadScoped);
+        ValidationResult.NewInstance previousOfAnotherThreadScoped = ValidationResult.setNewInstanceForCurrentThread(anotherThreadScoped);
+
+        try {
+            assertAll(
+                    () -> assertThat(previousOfThreadScoped).as("previous hook of first hook").isNull(),
+                    () -> assertThat(previousOfAnotherThreadScoped).as("previous hook of second hook").isSameAs(threadScoped),
+                    () -> assertThatIllegalStateException().as("restored out of order")
+                            .isThrownBy(() -> ValidationResult.restoreNewInstanceForCurrentThread(threadScoped, previousOfThreadScoped)),
+                    () -> {
+                        ValidationResult.restoreNewInstanceForCurrentThread(anotherThreadScoped, previousOfAnotherThreadScoped);
+                        assertThat(ValidationResult.validate(ValidationResultTest.class)).as("first hook restored").isInstanceOf(ThreadScopedResult.class);
+                    },
+                    () -> {
+                        ValidationResult.restoreNewInstanceForCurrentThread(threadScoped, previousOfThreadScoped);
+                        assertThat(ValidationResult.validateLazily(ValidationResultTest.class)).as("no hook restored")
+                                .isSameAs(ValidationResult.validateLazily(ValidationResultTest.class));
+                    }
+            );
+        } finally {
+            ValidationResult.resetForCurrentThread();
+        }
+    }
+
+    private static int validateValidBeansLazily(int noOfBeans) {
+        int noOfInvalidBeans = 0;
+
+        for (int i = 0; i < noOfBeans; i++) {
+            if (ValidationResult.validateLazily(ValidationResultTest.class)
+                    .notNull("name", "a name", "must be named")
+                    .notEmpty("description", "a description", "must be described")
+                    .notTrue("end", i < 0, "cannot come before the beginning")
+                    .notFalse("count", i >= 0, "must be counted")
+                    .returnResult().isPresent()) {
+                noOfInvalidBeans++;
+            }
+        }
+
+        return noOfInvalidBeans;
+    }
+
+    private static class AnotherThreadScopedResult extends ValidationResult {
+    }
+
+    private static class ThreadScopedResult extends ValidationResult {
+    }
+}
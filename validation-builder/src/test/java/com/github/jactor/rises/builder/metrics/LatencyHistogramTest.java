@@ -0,0 +1,45 @@
+package com.github.jactor.rises.builder.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("LatencyHistogram")
+class LatencyHistogramTest {
+
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+    @DisplayName("should record latencies in buckets of powers of two")
+    @Test void shouldRecordLatenciesInBucketsOfPowersOfTwo() {
+        latencyHistogram.record(0);
+        latencyHistogram.record(5);
+        latencyHistogram.record(6);
+        latencyHistogram.record(1000);
+
+        assertAll(
+                () -> assertThat(latencyHistogram.getBuckets()).as("buckets").containsExactly(entry(0L, 1L), entry(7L, 2L), entry(1023L, 1L)),
+                () -> assertThat(latencyHistogram.getCount()).as("count").isEqualTo(4),
+                () -> assertThat(latencyHistogram.getMean()).as("mean").isEqualTo(252.75),
+                () -> assertThat(latencyHistogram.getMax()).as("max").isEqualTo(1000)
+        );
+    }
+
+    @DisplayName("should estimate percentiles by the upper bound of their bucket")
+    @Test void shouldEstimatePercentilesByUpperBoundOfBucket() {
+        for (int i = 0; i < 99; i++) {
+            latencyHistogram.record(100);
+        }
+
+        latencyHistogram.record(5000);
+
+        assertAll(
+                () -> assertThat(latencyHistogram.getPercentile(50)).as("median").isEqualTo(127),
+                () -> assertThat(latencyHistogram.getPercentile(99)).as("99th percentile").isEqualTo(127),
+                () -> assertThat(latencyHistogram.getPercentile(100)).as("max").isEqualTo(5000),
+                () -> assertThat(new LatencyHistogram().getPercentile(50)).as("empty").isZero()
+        );
+    }
+}
@@ -0,0 +1,211 @@
+package com.github.jactor.rises.builder.metrics;
+
+import com.github.jactor.rises.builder.AbstractBuilder;
+import com.github.jactor.rises.builder.ValidationInstrumentation;
+import com.github.jactor.rises.builder.ValidInstance;
+import com.github.jactor.rises.builder.ValidationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("ValidationMetrics")
+class ValidationMetricsTest {
+
+    private final List<LogRecord> logRecords = new CopyOnWriteArrayList<>();
+    private final Handler logHandler = new Handler() {
+        @Override public void publish(LogRecord logRecord) {
+            logRecords.add(logRecord);
+        }
+
+        @Override public void flush() {
+        }
+
+        @Override public void close() {
+        }
+    };
+
+    private final MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+
+    @BeforeEach void captureWarnings() {
+        for (Logger logger : loggers()) {
+            logger.setUseParentHandlers(false);
+            logger.addHandler(logHandler);
+        }
+    }
+
+    @AfterEach void uninstallInstrumentation() {
+        ValidationInstrumentation.uninstall();
+
+        for (Logger logger : loggers()) {
+            logger.removeHandler(logHandler);
+            logger.setUseParentHandlers(true);
+        }
+    }
+
+    private static List<Logger> loggers() {
+        return asList(Logger.getLogger(JmxExporter.class.getName()), Logger.getLogger(ValidationMetrics.class.getName()));
+    }
+
+    @DisplayName("should count the builds, failures and field violations of a bean class")
+    @Test void shouldCountBuildsFailuresAndFieldViolations() {
+        ValidationMetrics validationMetrics = new ValidationMetrics();
+        ValidationInstrumentation.install(validationMetrics);
+
+        new TextBuilder("valid").build();
+        assertThatIllegalStateException().isThrownBy(new TextBuilder(" ")::build);
+        assertThatIllegalStateException().isThrownBy(new TextBuilder(null)::build);
+
+        BeanMetrics beanMetrics = validationMetrics.getBeanMetrics(String.class).orElseThrow(AssertionError::new);
+
+        assertAll(
+                () -> assertThat(beanMetrics.getValidations()).as("validations").isEqualTo(3),
+                () -> assertThat(beanMetrics.getBuilds()).as("builds").isEqualTo(3),
+                () -> assertThat(beanMetrics.getInvalidBuilds()).as("invalid builds").isEqualTo(2),
+                () -> assertThat(beanMetrics.getFailures()).as("failures").isEqualTo(2),
+                () -> assertThat(beanMetrics.getFieldViolations()).as("field violations").containsExactly(entry("text", 2L)),
+                () -> assertThat(beanMetrics.getBuildLatencies().getCount()).as("build latencies").isEqualTo(3),
+                () -> assertThat(beanMetrics.getValidationLatencies().getCount()).as("validation latencies").isEqualTo(3)
+        );
+    }
+
+    @DisplayName("should record the latencies of the beans validated by a valid instance")
+    @Test void shouldRecordLatenciesOfBeansValidatedByValidInstance() {
+        ValidationMetrics validationMetrics = new ValidationMetrics();
+        ValidationInstrumentation.install(validationMetrics);
+        ValidInstance<String> validText = aText -> ValidationResult.validateLazily(String.class).notEmpty("text", aText, "cannot be empty").returnResult();
+
+        validText.validateAll(asList("valid", " "));
+        validText.validateAll(Stream.of("valid"));
+
+        assertThat(validationMetrics.getBeanMetrics(String.class)).hasValueSatisfying(beanMetrics -> assertAll(
+                () -> assertThat(beanMetrics.getValidationLatencies().getCount()).as("validation latencies").isEqualTo(3),
+                () -> assertThat(beanMetrics.getBuildLatencies().getCount()).as("build latencies").isZero(),
+                () -> assertThat(beanMetrics.getFieldViolations()).as("field violations").containsExactly(entry("text", 1L))
+        ));
+    }
+
+    @DisplayName("should not record anything when the instrumentation is not installed")
+    @Test void shouldNotRecordWhenNotInstalled() {
+        ValidationMetrics validationMetrics = new ValidationMetrics();
+
+        new TextBuilder("valid").build();
+
+        assertThat(validationMetrics.getBeanMetrics()).isEmpty();
+    }
+
+    @DisplayName("should export the metrics of a bean class as an MXBean")
+    @Test void shouldExportMetricsAsMXBean() throws Exception {
+        try (JmxExporter jmxExporter = new JmxExporter(mBeanServer)) {
+            ValidationInstrumentation.install(new ValidationMetrics(jmxExporter));
+
+            new TextBuilder("valid").build();
+
+            assertAll(
+                    () -> assertThat(mBeanServer.getAttribute(JmxExporter.objectNameOf(String.class), "Builds")).as("builds").isEqualTo(1L),
+                    () -> assertThat(mBeanServer.getAttribute(JmxExporter.objectNameOf(String.class), "BeanClassName")).as("name")
+                            .isEqualTo(String.class.getName())
+            );
+        }
+
+        assertThat(mBeanServer.isRegistered(JmxExporter.objectNameOf(String.class))).as("registered after close").isFalse();
+    }
+
+    @DisplayName("should validate when the metrics of a bean class cannot be exported")
+    @Test void shouldValidateWhenMetricsCannotBeExported() {
+        try (JmxExporter jmxExporter = new JmxExporter(mBeanServer); JmxExporter sameNamesExporter = new JmxExporter(mBeanServer)) {
+            ValidationInstrumentation.install(new ValidationMetrics(jmxExporter));
+            new TextBuilder("registered").build();
+
+            ValidationMetrics validationMetrics = new ValidationMetrics(sameNamesExporter);
+            ValidationInstrumentation.install(validationMetrics);
+
+            assertAll(
+                    () -> assertThat(new TextBuilder("already registered").build()).as("valid bean").isEqualTo("already registered"),
+                    () -> assertThatIllegalStateException().as("invalid bean").isThrownBy(new TextBuilder(" ")::build),
+                    () -> assertThat(validationMetrics.getBeanMetrics(String.class)).as("metrics")
+                            .hasValueSatisfying(beanMetrics -> assertThat(beanMetrics.getBuilds()).isEqualTo(2)),
+                    () -> assertThat(logRecords).as("warnings").extracting(LogRecord::getMessage)
+                            .containsExactly("Unable to register the metrics of java.lang.String")
+            );
+        }
+    }
+
+    @DisplayName("should validate when the consumer of the metrics of a new bean class fails")
+    @Test void shouldValidateWhenConsumerOfNewMetricsFails() {
+        ValidationInstrumentation.install(new ValidationMetrics(beanMetrics -> {
+            throw new IllegalArgumentException("unable to consume");
+        }));
+
+        assertAll(
+                () -> assertThat(new TextBuilder("valid").build()).as("bean").isEqualTo("valid"),
+                () -> assertThat(logRecords).as("warnings").extracting(LogRecord::getMessage)
+                        .containsExactly("Unable to give away the metrics of java.lang.String")
+        );
+    }
+
+    @DisplayName("should count the builds for the type argument of the builder")
+    @Test void shouldCountBuildsForTypeArgumentOfBuilder() {
+        ValidationMetrics validationMetrics = new ValidationMetrics();
+        ValidationInstrumentation.install(validationMetrics);
+
+        new NumberBuilder(1).build();
+        new NumberBuilder(1.0).tryBuild();
+        AbstractBuilder.buildAll(asList(new NumberBuilder(2), new NumberBuilder(null)));
+        new NumberBuilder(3L).buildAsync().toCompletableFuture().join();
+        assertThatIllegalStateException().isThrownBy(new NumberBuilder(null)::build);
+
+        assertAll(
+                () -> assertThat(validationMetrics.getBeanMetrics()).as("bean classes").extracting(BeanMetrics::getBeanClass)
+                        .containsExactly(Number.class),
+                () -> assertThat(validationMetrics.getBeanMetrics(Number.class)).as("builds")
+                        .hasValueSatisfying(beanMetrics -> assertAll(
+                                () -> assertThat(beanMetrics.getBuilds()).as("builds").isEqualTo(6),
+                                () -> assertThat(beanMetrics.getInvalidBuilds()).as("invalid builds").isEqualTo(2),
+                                () -> assertThat(beanMetrics.getValidations()).as("validations").isEqualTo(6),
+                                () -> assertThat(beanMetrics.getValidationLatencies().getCount()).as("validation latencies").isEqualTo(6)
+                        ))
+        );
+    }
+
+    private static class NumberBuilder extends AbstractBuilder<Number> {
+        private final Number number;
+
+        private NumberBuilder(Number number) {
+            super(aNumber -> ValidationResult.validateLazily(Number.class).notNull("number", aNumber, "cannot be null").returnResult());
+            this.number = number;
+        }
+
+        @Override protected Number buildBean() {
+            return number;
+        }
+    }
+
+    private static class TextBuilder extends AbstractBuilder<String> {
+        private final String text;
+
+        private TextBuilder(String text) {
+            super(aText -> ValidationResult.validateLazily(String.class).notEmpty("text", aText, "cannot be empty").returnResult());
+            this.text = text;
+        }
+
+        @Override protected String buildBean() {
+            return text == null ? "" : text;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.jactor.rises.builder.metrics;
+
+import com.github.jactor.rises.builder.ValidationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("ValidationProfiler")
+class ValidationProfilerTest {
+
+    private final ValidationProfiler validationProfiler = new ValidationProfiler();
+
+    @AfterEach void stopProfiler() {
+        validationProfiler.stopForCurrentThread();
+        validationProfiler.stop();
+    }
+
+    @DisplayName("should rank the checks by the time spent on them, including the evaluation of their arguments")
+    @Test void shouldRankChecksByTimeSpent() {
+        validationProfiler.startForCurrentThread();
+
+        for (int i = 0; i < 5; i++) {
+            ValidationResult.validateLazily(String.class)
+                    .notNull("fast", "value", "must be present")
+                    .notNull("slow", slowly("value"), "must be present")
+                    .notTrue("condition", () -> slowly("value") == null, "must be present")
+                    .returnResult();
+        }
+
+        assertAll(
+                () -> assertThat(validationProfiler.getCheckProfiles()).as("checks").extracting(CheckProfile::toString)
+                        .containsExactlyInAnyOrder("String.fast notNull", "String.slow notNull", "String.condition notTrue"),
+                () -> assertThat(validationProfiler.getCheckProfiles().get(2)).as("least time spent").hasToString("String.fast notNull"),
+                () -> assertThat(validationProfiler.getCheckProfiles().get(0).getLatencies().getCount()).as("count").isEqualTo(5),
+                () -> assertThat(validationProfiler.getReport()).as("report").startsWith("rank").contains("   3 ", "String.fast notNull")
+        );
+    }
+
+    @DisplayName("should profile the validations of all threads when started")
+    @Test void shouldProfileValidationsOfAllThreads() throws Exception {
+        validationProfiler.start();
+        CompletableFuture.runAsync(() -> ValidationResult.validate(Integer.class).positive("value", 1, "must be positive")).get();
+
+        assertThat(validationProfiler.getCheckProfiles()).extracting(CheckProfile::toString).containsExactly("Integer.value positive");
+    }
+
+    @DisplayName("should restore the hook which was used by all threads before it was started when stopped")
+    @Test void shouldRestoreHookUsedByAllThreadsWhenStopped() throws Exception {
+        ValidationProfiler anotherValidationProfiler = new ValidationProfiler();
+        validationProfiler.start();
+        anotherValidationProfiler.start();
+
+        assertAll(
+                () -> assertThatIllegalStateException().as("started twice").isThrownBy(anotherValidationProfiler::start),
+                () -> assertThatIllegalStateException().as("stopped out of order").isThrownBy(validationProfiler::stop)
+        );
+
+        anotherValidationProfiler.stop();
+        CompletableFuture.runAsync(() -> ValidationResult.validate(Integer.class).positive("value", 1, "must be positive")).get();
+
+        assertAll(
+                () -> assertThat(validationProfiler.getCheckProfiles()).as("checks").extracting(CheckProfile::toString).containsExactly("Integer.value positive"),
+                () -> assertThat(anotherValidationProfiler.getCheckProfiles()).as("checks of stopped profiler").isEmpty()
+        );
+    }
+
+    @DisplayName("should profile a check without a field name")
+    @Test void shouldProfileCheckWithoutFieldName() {
+        validationProfiler.startForCurrentThread();
+
+        ValidationResult.validateLazily(String.class).notNull(null, "value", "must be present").returnResult();
+
+        assertThat(validationProfiler.getCheckProfiles()).extracting(CheckProfile::getFieldName, CheckProfile::getCheck).containsExactly(tuple(null, "notNull"));
+    }
+
+    @DisplayName("should not profile the validations when stopped")
+    @Test void shouldNotProfileValidationsWhenStopped() {
+        validationProfiler.startForCurrentThread().stopForCurrentThread();
+
+        ValidationResult validationResult = ValidationResult.validateLazily(String.class);
+        validationResult.notEmpty("text", "value", "must be present");
+
+        assertAll(
+                () -> assertThat(validationProfiler.getCheckProfiles()).as("checks").isEmpty(),
+                () -> assertThat(validationResult).as("lazy result").isSameAs(ValidationResult.validateLazily(String.class))
+        );
+    }
+
+    @DisplayName("should restore the profiler which was started before it by the current thread when stopped")
+    @Test void shouldRestoreProfilerStartedBeforeItWhenStopped() {
+        ValidationProfiler anotherValidationProfiler = new ValidationProfiler();
+        validationProfiler.startForCurrentThread();
+        anotherValidationProfiler.startForCurrentThread();
+
+        assertThatIllegalStateException().as("stopped out of order").isThrownBy(validationProfiler::stopForCurrentThread);
+
+        anotherValidationProfiler.stopForCurrentThread();
+        ValidationResult.validateLazily(String.class).notNull("text", "value", "must be present");
+
+        assertAll(
+                () -> assertThat(validationProfiler.getCheckProfiles()).as("checks").extracting(CheckProfile::toString).containsExactly("String.text notNull"),
+                () -> assertThat(anotherValidationProfiler.getCheckProfiles()).as("checks of stopped profiler").isEmpty()
+        );
+    }
+
+    private static String slowly(String value) {
+        long started = System.nanoTime();
+
+        while (System.nanoTime() - started < TimeUnit.MICROSECONDS.toNanos(200)) {
+            Thread.yield();
+        }
+
+        return value;
+    }
+}